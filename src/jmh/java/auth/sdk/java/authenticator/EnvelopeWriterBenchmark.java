@@ -0,0 +1,108 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.MOSIPAuthRequest;
+import auth.sdk.java.models.MOSIPOtpRequest;
+import auth.sdk.java.models.MOSIPRequestedAuth;
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outer request envelopes written by the cached Jackson writers against {@link RequestEnvelopeWriter}, which
+ * produces the same bytes. Lives in the writer's package because the writer is internal to {@link Authenticator}.
+ * <ul>
+ *   <li>{@code auth*}: a {@link MOSIPAuthRequest} with a 1.4 KB {@code request} and a 344 byte session key.</li>
+ *   <li>{@code otp*}: a {@link MOSIPOtpRequest} with two channels.</li>
+ * </ul>
+ * <p>
+ * <b>Usage:</b> {@code mvn -Pjmh compile exec:exec -Dbenchmark=EnvelopeWriterBenchmark}
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnvelopeWriterBenchmark {
+
+    private final ObjectWriter authWriter = JsonCodecs.writer(MOSIPAuthRequest.class);
+    private final ObjectWriter otpWriter = JsonCodecs.writer(MOSIPOtpRequest.class);
+    private MOSIPAuthRequest authRequest;
+    private MOSIPOtpRequest otpRequest;
+
+    @Setup
+    public void setUp() {
+        MOSIPRequestedAuth requestedAuth = new MOSIPRequestedAuth();
+        requestedAuth.setDemo(true);
+        authRequest = new MOSIPAuthRequest();
+        authRequest.setId("mosip.identity.auth");
+        authRequest.setVersion("1.0");
+        authRequest.setIndividualId("4370296312");
+        authRequest.setIndividualIdType("UIN");
+        authRequest.setTransactionID("1234567890");
+        authRequest.setRequestTime("2026-10-16T10:00:00.000Z");
+        authRequest.setSpecVersion("1.0");
+        authRequest.setThumbprint("3vYbt4r1pSBUkZTrv3Wy1DL9DSsVPFv3nYQ3nHn-nvY");
+        authRequest.setDomainUri("https://api-internal.dev3.mosip.net");
+        authRequest.setEnv("Staging");
+        authRequest.setRequestedAuth(requestedAuth);
+        authRequest.setConsentObtained(true);
+        authRequest.setRequestHMAC("Rr9iWA0kqKC1Bv2CkbYvVc8lkUm7CJLOjAN5H8k8GLtl1mm1U5xHxq0nZwU2kvTR");
+        authRequest.setRequestSessionKey(base64Url(344));
+        authRequest.setRequest(base64Url(1400));
+        authRequest.setMetadata(Collections.emptyMap());
+
+        otpRequest = new MOSIPOtpRequest();
+        otpRequest.setId("mosip.identity.otp");
+        otpRequest.setVersion("1.0");
+        otpRequest.setIndividualId("4370296312");
+        otpRequest.setIndividualIdType("UIN");
+        otpRequest.setTransactionID("1234567890");
+        otpRequest.setRequestTime("2026-10-16T10:00:00.000Z");
+        otpRequest.setOtpChannel(List.of("email", "phone"));
+        otpRequest.setMetadata(Collections.emptyMap());
+    }
+
+    private static String base64Url(int length) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(alphabet.charAt((i * 31 + 7) % alphabet.length()));
+        }
+        return value.toString();
+    }
+
+    @Benchmark
+    public byte[] authJackson() throws Exception {
+        return authWriter.writeValueAsBytes(authRequest);
+    }
+
+    @Benchmark
+    public byte[] authSpecialized() throws Exception {
+        return RequestEnvelopeWriter.toBytes(authRequest);
+    }
+
+    @Benchmark
+    public byte[] otpJackson() throws Exception {
+        return otpWriter.writeValueAsBytes(otpRequest);
+    }
+
+    @Benchmark
+    public byte[] otpSpecialized() throws Exception {
+        return RequestEnvelopeWriter.toBytes(otpRequest);
+    }
+}
@@ -0,0 +1,141 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.ConfigLoader;
+import auth.sdk.java.utils.CryptoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * Key material and payloads shared by the benchmarks.
+ * <p>
+ * Keys are read from the SDK's bundled {@code keystore.p12} and {@code ida_fir.pem}, located through the
+ * {@code sdk.resources} system property (default {@code src/main/resources}, relative to the project root).
+ * Payloads are generated from a fixed seed so every run encrypts and signs the same bytes.
+ * </p>
+ */
+final class BenchmarkFixtures {
+    static final Logger LOGGER = LoggerFactory.getLogger("auth.sdk.java.benchmarks");
+    static final String P12_PASSWORD = "mosip";
+    static final String RSA_ALGO = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+    static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec(
+            "SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Path resources() {
+        return Path.of(System.getProperty("sdk.resources", "src/main/resources"));
+    }
+
+    static Config.EncryptConfig encryptConfig() {
+        Config.EncryptConfig config = new Config.EncryptConfig();
+        config.setEncrypt_cert_path(resources().resolve("ida_fir.pem").toString());
+        config.setDecrypt_p12_file_path(resources().resolve("keystore.p12").toString());
+        config.setDecrypt_p12_file_password(P12_PASSWORD);
+        config.setSymmetric_key_size(256);
+        config.setSymmetric_nonce_size(128);
+        config.setSymmetric_gcm_tag_size(128);
+        return config;
+    }
+
+    static Config.SignConfig signConfig() {
+        Config.SignConfig config = new Config.SignConfig();
+        config.setSign_p12_file_path(resources().resolve("keystore.p12").toString());
+        config.setSign_p12_file_password(P12_PASSWORD);
+        config.setAlgorithm("RS256");
+        return config;
+    }
+
+    /**
+     * The repository's {@code config.properties} with the crypto sections pointed at {@link #resources()}.
+     */
+    static Config authenticatorConfig() {
+        Config config = new ConfigLoader().loadConfig();
+        config.setCrypto_encrypt(encryptConfig());
+        config.setCrypto_signature(signConfig());
+        return config;
+    }
+
+    static CryptoUtil newCryptoUtil() throws Exception {
+        return new CryptoUtil(encryptConfig(), signConfig(), LOGGER);
+    }
+
+    /**
+     * IDA's public key from {@code ida_fir.pem}, the target of the session key wrap.
+     */
+    static PublicKey encryptPublicKey() throws Exception {
+        try (InputStream in = Files.newInputStream(resources().resolve("ida_fir.pem"))) {
+            return CertificateFactory.getInstance("X.509").generateCertificate(in).getPublicKey();
+        }
+    }
+
+    /**
+     * Public half of the decryption key pair, used to build KYC-style responses that {@link CryptoUtil} can decrypt.
+     */
+    static PublicKey decryptPublicKey() throws Exception {
+        Object[] keyAndCert = CryptoUtil.getPrivateKeyAndCertificate(
+                resources().resolve("keystore.p12").toString(), P12_PASSWORD, LOGGER);
+        return ((X509Certificate) keyAndCert[1]).getPublicKey();
+    }
+
+    /**
+     * A JSON object of exactly {@code size} bytes whose bulk is a base64-looking string, roughly the shape of a
+     * demographic request at the small end and a biometric capture at the large end.
+     */
+    static byte[] jsonPayload(int size) {
+        byte[] prefix = "{\"data\":\"".getBytes(StandardCharsets.US_ASCII);
+        byte[] suffix = "\"}".getBytes(StandardCharsets.US_ASCII);
+        byte[] alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = new byte[Math.max(size, prefix.length + suffix.length)];
+        Random random = new Random(42);
+        System.arraycopy(prefix, 0, payload, 0, prefix.length);
+        for (int i = prefix.length; i < payload.length - suffix.length; i++) {
+            payload[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        System.arraycopy(suffix, 0, payload, payload.length - suffix.length, suffix.length);
+        return payload;
+    }
+
+    /**
+     * Encrypts {@code identity} the way IDA encrypts a KYC response and returns
+     * {@code {sessionKeyB64, identityB64}} for {@link CryptoUtil#decryptAuthData}.
+     */
+    static String[] kycResponse(byte[] identity, PublicKey partnerKey) throws Exception {
+        SecureRandom random = new SecureRandom();
+        byte[] aesKey = new byte[32];
+        byte[] iv = new byte[16];
+        random.nextBytes(aesKey);
+        random.nextBytes(iv);
+
+        Cipher aes = Cipher.getInstance("AES/GCM/NoPadding");
+        aes.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(aesKey, "AES"), new GCMParameterSpec(128, iv));
+        byte[] cipherText = aes.doFinal(identity);
+        byte[] withIv = Arrays.copyOf(cipherText, cipherText.length + iv.length);
+        System.arraycopy(iv, 0, withIv, cipherText.length, iv.length);
+
+        Cipher rsa = Cipher.getInstance(RSA_ALGO);
+        rsa.init(Cipher.ENCRYPT_MODE, partnerKey, OAEP_PARAMS);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return new String[]{encoder.encodeToString(rsa.doFinal(aesKey)), encoder.encodeToString(withIv)};
+    }
+}
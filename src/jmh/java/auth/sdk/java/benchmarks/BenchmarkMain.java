@@ -0,0 +1,31 @@
+package auth.sdk.java.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the {@code jmh} Maven profile.
+ * <p>
+ * Accepts the usual JMH command line (include regexes, {@code -p}, {@code -f}, ...) and always attaches the GC
+ * profiler, so every result reports {@code gc.alloc.rate.norm} (bytes allocated per operation) next to the score.
+ * </p>
+ * <p>
+ * <b>Usage:</b> {@code mvn -Pjmh compile exec:exec -Dbenchmark=CryptoUtilBenchmark.encryptAuthData}
+ * </p>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build()).run();
+    }
+}
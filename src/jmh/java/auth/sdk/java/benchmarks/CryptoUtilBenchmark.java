@@ -0,0 +1,191 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.utils.CryptoUtil;
+import auth.sdk.java.utils.EncryptedAuthData;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.util.Base64URL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link CryptoUtil} operations on the request path.
+ * <ul>
+ *   <li>{@code encryptAuthData}: AES-GCM over the request, RSA-OAEP key wrap and the encrypted SHA-256 HMAC,
+ *   from a 1 KB demographic request up to a 5 MB biometric one.</li>
+ *   <li>{@code encryptAuthDataStreaming}: the same over an {@code InputStream} with a fixed working buffer.</li>
+ *   <li>{@code encryptAuthDataContended}: the 1 KB case from eight threads sharing one instance.</li>
+ *   <li>{@code signAuthRequestData}: the detached JWS over the full request body, against
+ *   {@code signAttachedBaseline}, the Nimbus attach-serialise-split approach it replaced.</li>
+ *   <li>{@code decryptAuthData}: unwrapping and decrypting a KYC identity.</li>
+ *   <li>{@code rsaOaepWrap}: the RSA-OAEP-SHA256 session key wrap on its own, as a floor for the above.</li>
+ * </ul>
+ * Run through {@link BenchmarkMain} so the GC profiler reports allocation per operation alongside throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoUtilBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Keys {
+        CryptoUtil cryptoUtil;
+        PublicKey encryptKey;
+        PublicKey decryptPublicKey;
+        SecureRandom random;
+        PrivateKey signKey;
+        X509Certificate signCert;
+
+        @Setup
+        public void setUp() throws Exception {
+            cryptoUtil = BenchmarkFixtures.newCryptoUtil();
+            encryptKey = BenchmarkFixtures.encryptPublicKey();
+            decryptPublicKey = BenchmarkFixtures.decryptPublicKey();
+            random = new SecureRandom();
+            Object[] keyAndCert = CryptoUtil.getPrivateKeyAndCertificate(
+                    BenchmarkFixtures.resources().resolve("keystore.p12").toString(),
+                    BenchmarkFixtures.P12_PASSWORD, BenchmarkFixtures.LOGGER);
+            signKey = (PrivateKey) keyAndCert[0];
+            signCert = (X509Certificate) keyAndCert[1];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestPayload {
+        @Param({"1024", "65536", "1048576", "5242880"})
+        int payloadSize;
+
+        byte[] payload;
+
+        @Setup
+        public void setUp() {
+            payload = BenchmarkFixtures.jsonPayload(payloadSize);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DemographicRequest {
+        byte[] payload;
+
+        @Setup
+        public void setUp() {
+            payload = BenchmarkFixtures.jsonPayload(1024);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SignedBody {
+        @Param({"2048", "1048576"})
+        int bodySize;
+
+        byte[] body;
+
+        @Setup
+        public void setUp() {
+            body = BenchmarkFixtures.jsonPayload(bodySize);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class KycIdentity {
+        @Param({"1024", "65536"})
+        int identitySize;
+
+        String sessionKey;
+        String identity;
+
+        @Setup
+        public void setUp(Keys keys) throws Exception {
+            String[] response = BenchmarkFixtures.kycResponse(
+                    BenchmarkFixtures.jsonPayload(identitySize), keys.decryptPublicKey);
+            sessionKey = response[0];
+            identity = response[1];
+        }
+    }
+
+    @Benchmark
+    public String[] encryptAuthData(Keys keys, RequestPayload request) throws Exception {
+        return keys.cryptoUtil.encryptAuthData(request.payload);
+    }
+
+    /**
+     * Single-pass encrypt-and-hash, Base64URL encoding straight into a discarding stream; compare
+     * {@code gc.alloc.rate.norm} with {@link #encryptAuthData} at the multi-megabyte sizes.
+     */
+    @Benchmark
+    public EncryptedAuthData encryptAuthDataStreaming(Keys keys, RequestPayload request) throws Exception {
+        return keys.cryptoUtil.encryptAuthData(new ByteArrayInputStream(request.payload), OutputStream.nullOutputStream());
+    }
+
+    /**
+     * A shared {@link CryptoUtil} under contention, as it is used by {@code BatchAuthenticator}; this is where
+     * per-call engine creation and DRBG seeding hurt most.
+     */
+    @Benchmark
+    @Threads(8)
+    public String[] encryptAuthDataContended(Keys keys, DemographicRequest request) throws Exception {
+        return keys.cryptoUtil.encryptAuthData(request.payload);
+    }
+
+    @Benchmark
+    public String signAuthRequestData(Keys keys, SignedBody request) throws Exception {
+        return keys.cryptoUtil.signAuthRequestData(request.body);
+    }
+
+    /**
+     * The previous signing path: a fresh header and signer per call, full attached serialisation, then a regex split
+     * to drop the payload. Kept as the reference for {@link #signAuthRequestData}.
+     */
+    @Benchmark
+    public String signAttachedBaseline(Keys keys, SignedBody request) throws Exception {
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .x509CertChain(Collections.singletonList(Base64URL.encode(keys.signCert.getEncoded())))
+                .keyID(Base64.getUrlEncoder().withoutPadding().encodeToString(keys.signCert.getEncoded()))
+                .build();
+        JWSObject jwsObject = new JWSObject(header, new Payload(request.body));
+        jwsObject.sign(new RSASSASigner(keys.signKey));
+        String[] parts = jwsObject.serialize().split("\\.");
+        return parts[0] + ".." + parts[2];
+    }
+
+    @Benchmark
+    public Map<String, Object> decryptAuthData(Keys keys, KycIdentity response) throws Exception {
+        return keys.cryptoUtil.decryptAuthData(response.sessionKey, response.identity);
+    }
+
+    @Benchmark
+    public byte[] rsaOaepWrap(Keys keys) throws Exception {
+        byte[] aesKey = new byte[32];
+        keys.random.nextBytes(aesKey);
+        Cipher cipher = Cipher.getInstance(BenchmarkFixtures.RSA_ALGO);
+        cipher.init(Cipher.ENCRYPT_MODE, keys.encryptKey, BenchmarkFixtures.OAEP_PARAMS);
+        return cipher.doFinal(aesKey);
+    }
+}
@@ -0,0 +1,107 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The request path operations of {@link CryptoUtil} under a chosen set of JCA providers, to compare e.g. software
+ * signing with signing on a PKCS#11 token, or the default cipher provider with an accelerated one.
+ * <ul>
+ *   <li>{@code sign}: the detached JWS over a 2 KB request body, on {@code signProvider}.</li>
+ *   <li>{@code encryptAuthData}: AES-GCM and the RSA-OAEP key wrap over a 1 KB request, on {@code cipherProvider}.</li>
+ *   <li>{@code decryptAuthData}: unwrapping and decrypting a KYC identity, on {@code cipherProvider}.</li>
+ * </ul>
+ * {@code default} leaves the choice to the JDK's provider order. Signing with a SoftHSM token, whose key was
+ * imported under the label {@code partner} and whose PIN is {@code 1234}:
+ * <pre>
+ * mvn -Pjmh compile exec:exec -Dbenchmark="ProviderBenchmark.sign -p signProvider=SunPKCS11
+ *     -p signProviderConfig=/etc/softhsm/pkcs11.cfg -p signKeystoreType=PKCS11 -p signKeyAlias=partner -p tokenPin=1234"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProviderBenchmark {
+
+    @Param("default")
+    private String signProvider;
+
+    @Param("")
+    private String signProviderConfig;
+
+    @Param("PKCS12")
+    private String signKeystoreType;
+
+    @Param("")
+    private String signKeyAlias;
+
+    /**
+     * Token PIN; empty uses the keystore password of the PKCS12 fixture.
+     */
+    @Param("")
+    private String tokenPin;
+
+    @Param("default")
+    private String cipherProvider;
+
+    private CryptoUtil cryptoUtil;
+    private byte[] signPayload;
+    private byte[] encryptPayload;
+    private String[] kycResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        Config.EncryptConfig encryptConfig = BenchmarkFixtures.encryptConfig();
+        encryptConfig.setEncrypt_provider(provider(cipherProvider));
+        encryptConfig.setDecrypt_provider(provider(cipherProvider));
+
+        Config.SignConfig signConfig = BenchmarkFixtures.signConfig();
+        signConfig.setSign_provider(provider(signProvider));
+        signConfig.setSign_provider_config(signProviderConfig);
+        signConfig.setSign_keystore_type(signKeystoreType);
+        signConfig.setSign_key_alias(signKeyAlias);
+        if (!tokenPin.isEmpty()) {
+            signConfig.setSign_p12_file_password(tokenPin);
+        }
+
+        cryptoUtil = new CryptoUtil(encryptConfig, signConfig, BenchmarkFixtures.LOGGER);
+        signPayload = BenchmarkFixtures.jsonPayload(2 * 1024);
+        encryptPayload = BenchmarkFixtures.jsonPayload(1024);
+        kycResponse = BenchmarkFixtures.kycResponse(BenchmarkFixtures.jsonPayload(2 * 1024), BenchmarkFixtures.decryptPublicKey());
+    }
+
+    private static String provider(String name) {
+        return "default".equals(name) ? "" : name;
+    }
+
+    @Benchmark
+    public String sign() throws Exception {
+        return cryptoUtil.signAuthRequestData(signPayload);
+    }
+
+    @Benchmark
+    public String[] encryptAuthData() throws Exception {
+        return cryptoUtil.encryptAuthData(encryptPayload);
+    }
+
+    @Benchmark
+    public byte[] decryptAuthData() throws Exception {
+        return cryptoUtil.decryptAuthDataBytes(kycResponse[0], kycResponse[1]);
+    }
+}
@@ -0,0 +1,123 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.models.DemographicsModel;
+import auth.sdk.java.models.IdentityInfo;
+import auth.sdk.java.models.MOSIPAuthRequest;
+import auth.sdk.java.models.MOSIPEncryptAuthRequest;
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JSON cost of the models, with a mapper built per call (what the models used to do) against the
+ * cached writers and readers of {@link JsonCodecs}.
+ * <ul>
+ *   <li>{@code envelope*}: the outer {@link MOSIPAuthRequest} with its Base64URL {@code request} field.</li>
+ *   <li>{@code innerRequest*}: the {@link MOSIPEncryptAuthRequest} with demographics, i.e. the plain text that is
+ *   encrypted.</li>
+ *   <li>{@code identity*}: reading a decrypted KYC identity into a map, as {@code decryptAuthData} does.</li>
+ * </ul>
+ * The {@code jmh} profile puts Jackson Blackbird on the classpath, so the shared variants run with generated
+ * accessors; add {@code -jvmArgsAppend -Dauth.sdk.java.json.accessorModule=none} to measure them without.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private MOSIPAuthRequest envelope;
+    private MOSIPEncryptAuthRequest innerRequest;
+    private byte[] identity;
+
+    @Setup
+    public void setUp() {
+        envelope = new MOSIPAuthRequest();
+        envelope.setId("mosip.identity.auth");
+        envelope.setVersion("1.0");
+        envelope.setIndividualId("4370296312");
+        envelope.setIndividualIdType("UIN");
+        envelope.setTransactionID("1234567890");
+        envelope.setRequestTime("2026-10-16T10:00:00.000Z");
+        envelope.setSpecVersion("1.0");
+        envelope.setThumbprint("3vYbt4r1pSBUkZTrv3Wy1DL9DSsVPFv3nYQ3nHn-nvY");
+        envelope.setDomainUri("https://api-internal.dev3.mosip.net");
+        envelope.setEnv("Staging");
+        envelope.setConsentObtained(true);
+        envelope.setRequestHMAC("Rr9iWA0kqKC1Bv2CkbYvVc8lkUm7CJLOjAN5H8k8GLtl1mm1U5xHxq0nZwU2kvTR");
+        envelope.setRequestSessionKey(new String(BenchmarkFixtures.jsonPayload(342), StandardCharsets.US_ASCII));
+        envelope.setRequest(new String(BenchmarkFixtures.jsonPayload(1400), StandardCharsets.US_ASCII));
+        envelope.setMetadata(Collections.emptyMap());
+
+        DemographicsModel demographics = new DemographicsModel();
+        demographics.setName(List.of(localized("eng", "Ravi Kumar"), localized("ara", "رافي كومار")));
+        demographics.setGender(List.of(localized("eng", "Male")));
+        demographics.setFullAddress(List.of(localized("eng", "12 Temple Street, Bangalore, KA 560001")));
+        demographics.setDob("1992/04/15");
+        demographics.setPhoneNumber("9876543210");
+        demographics.setEmailId("ravi.kumar@example.org");
+        innerRequest = new MOSIPEncryptAuthRequest();
+        innerRequest.setTimestamp("2026-10-16T10:00:00.000Z");
+        innerRequest.setBiometrics(Collections.emptyList());
+        innerRequest.setDemographics(demographics);
+
+        identity = ("{\"name\":[{\"language\":\"eng\",\"value\":\"Ravi Kumar\"}],\"gender\":[{\"language\":\"eng\","
+                + "\"value\":\"Male\"}],\"dob\":\"1992/04/15\",\"phoneNumber\":\"9876543210\",\"emailId\":"
+                + "\"ravi.kumar@example.org\",\"fullAddress\":[{\"language\":\"eng\",\"value\":\"12 Temple Street\"}]}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static IdentityInfo localized(String language, String value) {
+        IdentityInfo info = new IdentityInfo();
+        info.setLanguage(language);
+        info.setValue(value);
+        return info;
+    }
+
+    @Benchmark
+    public byte[] envelopeNewMapper() throws Exception {
+        return new ObjectMapper().writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] envelopeSharedWriter() {
+        return envelope.toJsonBytes();
+    }
+
+    @Benchmark
+    public byte[] innerRequestNewMapper() throws Exception {
+        return new ObjectMapper().writeValueAsBytes(innerRequest);
+    }
+
+    @Benchmark
+    public byte[] innerRequestSharedWriter() {
+        return innerRequest.toJsonBytes();
+    }
+
+    @Benchmark
+    public Map<?, ?> identityNewMapper() throws Exception {
+        return new ObjectMapper().readValue(identity, Map.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> identitySharedReader() throws Exception {
+        return JsonCodecs.mapReader().readValue(identity);
+    }
+}
@@ -0,0 +1,70 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of a burst of {@code encryptAuthData} calls with and without the session key pool.
+ * <p>
+ * Each measured invocation is one burst of {@code burstSize} 1 KB requests. Between bursts the pool is given time to
+ * refill (outside the measurement), which is the situation the pool is meant for: idle periods followed by spikes.
+ * Compare the p99 of {@code poolEnabled=true} against {@code false}.
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionKeyPoolBenchmark {
+
+    @Param({"false", "true"})
+    boolean poolEnabled;
+
+    @Param({"32"})
+    int burstSize;
+
+    private CryptoUtil cryptoUtil;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        Config.SessionKeyPool pool = new Config.SessionKeyPool();
+        pool.setEnabled(poolEnabled);
+        pool.setCapacity(burstSize * 2);
+        pool.setRefill_threads(1);
+        cryptoUtil = new CryptoUtil(BenchmarkFixtures.encryptConfig(), BenchmarkFixtures.signConfig(), pool,
+                BenchmarkFixtures.LOGGER);
+        payload = BenchmarkFixtures.jsonPayload(1024);
+    }
+
+    @Setup(Level.Invocation)
+    public void awaitRefill() throws InterruptedException {
+        while (poolEnabled && cryptoUtil.getSessionKeyPoolStats().get().getDepth() < burstSize) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Benchmark
+    public void burst(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < burstSize; i++) {
+            blackhole.consume(cryptoUtil.encryptAuthData(payload));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package auth.sdk.java.benchmarks;
+
+import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.KeyMaterialRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code new Authenticator(config, null)}.
+ * <ul>
+ *   <li>{@code coldStart}: the first construction in a fresh JVM, one shot per fork, including class loading and
+ *   JCA provider initialisation. This is what a short-lived CLI or a freshly scaled pod pays.</li>
+ *   <li>{@code keyMaterialCold}: construction with warm classes but an empty {@link KeyMaterialRegistry}, i.e. the
+ *   cost of reading and parsing the certificate and keystores.</li>
+ *   <li>{@code keyMaterialWarm}: a further instance for the same configuration, served from the registry.</li>
+ * </ul>
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private Config config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = BenchmarkFixtures.authenticatorConfig();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public Authenticator coldStart() throws Exception {
+        return new Authenticator(config, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 20)
+    @Fork(1)
+    public Authenticator keyMaterialCold(RegistryReset reset) throws Exception {
+        return new Authenticator(config, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public Authenticator keyMaterialWarm() throws Exception {
+        return new Authenticator(config, null);
+    }
+
+    @State(Scope.Thread)
+    public static class RegistryReset {
+        @Setup(Level.Invocation)
+        public void clear() {
+            KeyMaterialRegistry.getDefault().clear();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.authenticator.BatchAuthenticator;
+import auth.sdk.java.authenticator.BatchSummary;
+import auth.sdk.java.authenticator.BatchTask;
+import auth.sdk.java.mock.MockIdaServer;
+import auth.sdk.java.mock.MockIdaSettings;
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.ConfigLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives a {@link BatchAuthenticator} against an embedded {@link MockIdaServer} and prints throughput and latency
+ * percentiles. Nothing leaves the machine, so this can be run without access to a MOSIP environment.
+ * <p>
+ * Usage: {@code MockIdaLoadTest [requests] [latencyMillis]}
+ * </p>
+ */
+public class MockIdaLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        long latencyMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+
+        Config config = new ConfigLoader().loadConfig();
+
+        MockIdaSettings settings = new MockIdaSettings();
+        settings.setP12FilePath(config.getCrypto_encrypt().getDecrypt_p12_file_path());
+        settings.setP12FilePassword(config.getCrypto_encrypt().getDecrypt_p12_file_password());
+        settings.setLatencyDistribution(MockIdaSettings.LatencyDistribution.LOG_NORMAL);
+        settings.setLatencyMillis(latencyMillis);
+        settings.setIdaErrorRate(0.01);
+
+        try (MockIdaServer server = new MockIdaServer(settings)) {
+            server.start();
+
+            Path certPem = Files.createTempFile("mock-ida-", ".pem");
+            server.writeCertificatePem(certPem);
+            config.getMosip_auth_server().setIda_auth_url(server.getBaseUrl());
+            config.getCrypto_encrypt().setEncrypt_cert_path(certPem.toString());
+            // The mock signs its replies under the same certificate, so they are verified as IDA's would be
+            config.getResponse_verification().setEnabled(true);
+            config.getResponse_verification().setTrust_cert_path(certPem.toString());
+
+            List<BatchTask<?>> tasks = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                String individualId = String.format("%010d", i);
+                tasks.add(i % 4 == 0
+                        ? BatchTask.kyc("kyc-" + i, String.format("%010d", i), individualId, "UIN", null, "111111", null, true)
+                        : BatchTask.auth("auth-" + i, individualId, "UIN", null, "111111", null, true));
+            }
+
+            long[] latencies = new long[requests];
+            AtomicInteger idaErrors = new AtomicInteger();
+            AtomicInteger index = new AtomicInteger();
+            BatchSummary summary;
+            try (Authenticator authenticator = new Authenticator(config, null);
+                 BatchAuthenticator batch = new BatchAuthenticator(authenticator, config.getBatch())) {
+                summary = batch.execute(tasks, result -> {
+                    latencies[index.getAndIncrement()] = result.getDurationNanos();
+                    if (result.isSuccess() && result.getResponse().hasErrors()) {
+                        idaErrors.incrementAndGet();
+                    } else if (!result.isSuccess()) {
+                        System.err.println(result.getTaskId() + " failed: " + result.getError());
+                    }
+                });
+            }
+
+            long[] sorted = Arrays.copyOf(latencies, index.get());
+            Arrays.sort(sorted);
+            System.out.println(summary);
+            System.out.printf("Throughput: %.1f req/s%n", summary.getSubmitted() * 1000.0 / Math.max(1, summary.getElapsedMillis()));
+            System.out.printf("Latency ms: p50=%d p90=%d p99=%d max=%d%n",
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 100));
+            System.out.println("IDA errors: " + idaErrors.get()
+                    + ", mock received=" + server.getReceivedCount()
+                    + " succeeded=" + server.getSucceededCount()
+                    + " rejected=" + server.getRejectedCount()
+                    + " injected=" + server.getInjectedErrorCount());
+        }
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int i = Math.min(sorted.length - 1, (int) Math.ceil(p / 100.0 * sorted.length) - 1);
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, i)]);
+    }
+}
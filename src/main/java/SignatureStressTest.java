@@ -0,0 +1,116 @@
+import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.ConfigLoader;
+import auth.sdk.java.utils.CryptoUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hammers one shared {@link Authenticator} from many threads against a local HTTP endpoint and checks that
+ * every {@code Signature} header verifies against the exact body it was sent with.
+ */
+public class SignatureStressTest {
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 50;
+
+    public static void main(String[] args) throws Exception {
+        Config config = new ConfigLoader().loadConfig();
+        X509Certificate signCert = (X509Certificate) CryptoUtil.getPrivateKeyAndCertificate(
+                config.getCrypto_signature().getSign_p12_file_path(),
+                config.getCrypto_signature().getSign_p12_file_password(),
+                LoggerFactory.getLogger(SignatureStressTest.class)
+        )[1];
+
+        AtomicInteger verified = new AtomicInteger();
+        AtomicInteger mismatched = new AtomicInteger();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(THREADS));
+        server.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            String signature = exchange.getRequestHeaders().getFirst("Signature");
+            if (verifyDetached(signature, body, signCert)) {
+                verified.incrementAndGet();
+            } else {
+                mismatched.incrementAndGet();
+            }
+            byte[] reply = "{\"response\":{\"authStatus\":true},\"errors\":null}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, reply.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(reply);
+            }
+        });
+        server.start();
+
+        try {
+            config.getMosip_auth_server().setIda_auth_url("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+            Authenticator authenticator = new Authenticator(config, null);
+
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int threadNo = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        String individualId = String.format("%05d%05d", threadNo, i);
+                        if (i % 2 == 0) {
+                            authenticator.genOtp(individualId, "UIN", UUID.randomUUID().toString(), true, false);
+                        } else {
+                            authenticator.auth(individualId, "UIN", null, Optional.empty(),
+                                    Optional.of(String.valueOf(i)), Optional.empty(), true);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+        } finally {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdown();
+        }
+
+        int expected = THREADS * REQUESTS_PER_THREAD;
+        System.out.println("Verified: " + verified.get() + "/" + expected + ", mismatched: " + mismatched.get());
+        if (mismatched.get() > 0 || verified.get() != expected) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean verifyDetached(String jws, byte[] body, X509Certificate cert) {
+        if (jws == null) {
+            return false;
+        }
+        String[] parts = jws.split("\\.", -1);
+        if (parts.length != 3 || !parts[1].isEmpty()) {
+            return false;
+        }
+        try {
+            String signingInput = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(body);
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(cert.getPublicKey());
+            verifier.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return verifier.verify(Base64.getUrlDecoder().decode(parts[2]));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
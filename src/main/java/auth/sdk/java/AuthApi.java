@@ -1,15 +1,21 @@
 package auth.sdk.java;
 
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.authenticator.BatchAuthenticator;
+import auth.sdk.java.authenticator.BatchSummary;
+import auth.sdk.java.authenticator.NdjsonBatchRunner;
+import auth.sdk.java.models.AuthResponse;
 import auth.sdk.java.models.DemographicsModel;
 import auth.sdk.java.models.IdentityInfo;
 import auth.sdk.java.utils.Config;
 import auth.sdk.java.utils.ConfigLoader;
+import auth.sdk.java.utils.Deadline;
+import auth.sdk.java.utils.JsonCodecs;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +32,7 @@ public class AuthApi {
     }
 
     public static Map<String, Object> loadUserData(String filepath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(new File(filepath), Map.class);
+        return JsonCodecs.mapReader().readValue(new File(filepath));
     }
 
     public static UserValidationResult validateUserData(Map<String, Object> userData) {
@@ -81,22 +86,41 @@ public class AuthApi {
 
     public static JsonNode authenticateFromJsonFile(String jsonPath, String configPath) throws Exception {
         Config config = loadConfig(configPath);
-        Authenticator authenticator = initializeAuthenticator(config);
-        Map<String, Object> userData = loadUserData(jsonPath);
+        try (Authenticator authenticator = initializeAuthenticator(config)) {
+            Map<String, Object> userData = loadUserData(jsonPath);
+            return authenticate(userData, authenticator, Deadline.none()).toJsonNode();
+        }
+    }
+
+    /**
+     * Authenticates every record of the NDJSON file {@code inputPath}, one user per line in the same shape as the
+     * single-file input, on one shared {@link Authenticator}, and writes one result line per record to
+     * {@code outputPath}. Concurrency, result order and checkpointing come from the {@code batch} section of the
+     * config; see {@link NdjsonBatchRunner}. Run again after an interruption to resume from the last checkpoint.
+     */
+    public static BatchSummary authenticateFromNdjsonFile(String inputPath, String outputPath, String configPath) throws Exception {
+        Config config = loadConfig(configPath);
+        try (Authenticator authenticator = initializeAuthenticator(config);
+             BatchAuthenticator batch = new BatchAuthenticator(authenticator, config.getBatch())) {
+            return new NdjsonBatchRunner(batch, config.getBatch())
+                    .run(Paths.get(inputPath), Paths.get(outputPath), AuthApi::authenticate);
+        }
+    }
+
+    private static AuthResponse authenticate(Map<String, Object> userData, Authenticator authenticator, Deadline deadline) throws Exception {
         UserValidationResult validation = validateUserData(userData);
         DemographicsModel demographics = prepareDemographics(userData, validation.language);
 
-        Map<String, Object> response = authenticator.auth(
+        return authenticator.auth(
                 validation.individualId,
                 validation.individualIdType,
                 demographics,
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                true
+                true,
+                deadline
         );
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.convertValue(response, JsonNode.class);
     }
 
     // Helper class for validation result
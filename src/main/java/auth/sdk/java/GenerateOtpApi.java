@@ -1,14 +1,15 @@
 package auth.sdk.java;
 
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.models.IdaError;
+import auth.sdk.java.models.OtpResponse;
 import auth.sdk.java.utils.Config;
 import auth.sdk.java.utils.ConfigLoader;
+import auth.sdk.java.utils.JsonCodecs;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Map;
 
 public class GenerateOtpApi {
 
@@ -24,39 +25,36 @@ public class GenerateOtpApi {
     }
 
     public static JsonNode loadUserData(String userDataPath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readTree(new File(userDataPath));
+        return JsonCodecs.reader(JsonNode.class).readValue(new File(userDataPath));
     }
 
 
     public static JsonNode generateOtp(String userDataPath, String configPath) throws Exception {
         JsonNode userData = loadUserData(userDataPath);
         Config config = loadConfig(configPath);
-        Authenticator authenticator = initializeAuthenticator(config);
-
-        Map<String, Object> response = authenticator.genOtp(
-                userData.path("individual_id").asText(),
-                userData.has("individual_id_type") ? userData.path("individual_id_type").asText() : "UIN",
-                java.util.UUID.randomUUID().toString(),
-                userData.has("email") && userData.get("email").asBoolean(),
-                userData.has("phone") && userData.get("phone").asBoolean()
-        );
-
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode responseNode = mapper.convertValue(response, JsonNode.class);
+        OtpResponse response;
+        try (Authenticator authenticator = initializeAuthenticator(config)) {
+            response = authenticator.genOtp(
+                    userData.path("individual_id").asText(),
+                    userData.has("individual_id_type") ? userData.path("individual_id_type").asText() : "UIN",
+                    java.util.UUID.randomUUID().toString(),
+                    userData.has("email") && userData.get("email").asBoolean(),
+                    userData.has("phone") && userData.get("phone").asBoolean()
+            );
+        }
 
-        if (responseNode.has("errors") && responseNode.get("errors").size() > 0) {
+        if (response.hasErrors()) {
             StringBuilder errorMsg = new StringBuilder("OTP Generation failed: ");
-            for (JsonNode error : responseNode.get("errors")) {
+            for (IdaError error : response.getErrors()) {
                 errorMsg.append("(")
-                        .append(error.get("errorCode").asText())
+                        .append(error.getErrorCode())
                         .append(", ")
-                        .append(error.get("errorMessage").asText())
+                        .append(error.getErrorMessage())
                         .append(") ");
             }
             throw new Exception(errorMsg.toString());
         }
 
-        return responseNode;
+        return response.toJsonNode();
     }
 }
\ No newline at end of file
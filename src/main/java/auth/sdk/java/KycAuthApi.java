@@ -1,13 +1,20 @@
 package auth.sdk.java;
 
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.authenticator.BatchAuthenticator;
+import auth.sdk.java.authenticator.BatchSummary;
+import auth.sdk.java.authenticator.NdjsonBatchRunner;
 import auth.sdk.java.models.DemographicsModel;
+import auth.sdk.java.models.IdaError;
 import auth.sdk.java.models.IdentityInfo;
+import auth.sdk.java.models.KycResponse;
 import auth.sdk.java.utils.Config;
 import auth.sdk.java.utils.ConfigLoader;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import auth.sdk.java.utils.Deadline;
+import auth.sdk.java.utils.JsonCodecs;
 
 import java.io.File;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class KycAuthApi {
@@ -16,8 +23,7 @@ public class KycAuthApi {
     }
 
     public static Map<String, Object> loadUserData(String filepath) throws Exception {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(new File(filepath), Map.class);
+        return JsonCodecs.mapReader().readValue(new File(filepath));
     }
 
     public static List<IdentityInfo> wrapLocalized(Object value, String language) {
@@ -54,10 +60,40 @@ public class KycAuthApi {
 
     public static void performKycFromJsonFile(String jsonPath, String configPath) throws Exception {
         Config config = loadConfig(configPath);
-        Authenticator authenticator = new Authenticator(config, null);
+        try (Authenticator authenticator = new Authenticator(config, null)) {
+            Map<String, Object> userData = loadUserData(jsonPath);
+            KycResponse response = performKyc(userData, authenticator, Deadline.none());
+
+            if (response.hasErrors()) {
+                StringBuilder sb = new StringBuilder();
+                for (IdaError error : response.getErrors()) {
+                    sb.append(error.getErrorCode()).append(" : ").append(error.getErrorMessage()).append("\n");
+                }
+                throw new IllegalArgumentException(sb.toString());
+            }
+
+            Map<String, Object> decrypted = authenticator.decryptResponse(response);
+            System.out.println("Decrypted response: " + JsonCodecs.writer(Map.class).writeValueAsString(decrypted));
+        }
+    }
 
-        Map<String, Object> userData = loadUserData(jsonPath);
+    /**
+     * Runs KYC for every record of the NDJSON file {@code inputPath}, one user per line in the same shape as the
+     * single-file input, on one shared {@link Authenticator}, and writes one result line per record, with the
+     * decrypted identity, to {@code outputPath}. Concurrency, result order and checkpointing come from the
+     * {@code batch} section of the config; see {@link NdjsonBatchRunner}. Run again after an interruption to resume
+     * from the last checkpoint.
+     */
+    public static BatchSummary performKycFromNdjsonFile(String inputPath, String outputPath, String configPath) throws Exception {
+        Config config = loadConfig(configPath);
+        try (Authenticator authenticator = new Authenticator(config, null);
+             BatchAuthenticator batch = new BatchAuthenticator(authenticator, config.getBatch())) {
+            return new NdjsonBatchRunner(batch, config.getBatch())
+                    .run(Paths.get(inputPath), Paths.get(outputPath), KycAuthApi::performKyc);
+        }
+    }
 
+    private static KycResponse performKyc(Map<String, Object> userData, Authenticator authenticator, Deadline deadline) throws Exception {
         String individualId = ((String) userData.getOrDefault("individual_id", "")).trim();
         if (individualId.isEmpty()) throw new IllegalArgumentException("Missing 'individual_id'.");
 
@@ -69,30 +105,16 @@ public class KycAuthApi {
 
         DemographicsModel demographics = prepareDemographics(userData, language);
 
-        Map<String, Object> response = authenticator.kyc(
+        return authenticator.kyc(
                 UUID.randomUUID().toString(), // txnId
                 individualId,
                 individualIdType,
                 Optional.of(demographics),
                 Optional.empty(),
                 Optional.empty(),
-                true
+                true,
+                deadline
         );
-
-        ObjectMapper mapper = new ObjectMapper();
-        Map<String, Object> responseBody = mapper.convertValue(response, Map.class);
-
-        if (responseBody.containsKey("errors")) {
-            List<Map<String, Object>> errors = (List<Map<String, Object>>) responseBody.get("errors");
-            StringBuilder sb = new StringBuilder();
-            for (Map<String, Object> error : errors) {
-                sb.append(error.get("errorCode")).append(" : ").append(error.get("errorMessage")).append("\n");
-            }
-            throw new IllegalArgumentException(sb.toString());
-        }
-
-        Map<String, Object> decrypted = authenticator.decryptResponse(responseBody);
-        System.out.println("Decrypted response: " + mapper.writeValueAsString(decrypted));
     }
 
 }
\ No newline at end of file
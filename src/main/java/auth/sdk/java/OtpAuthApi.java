@@ -1,14 +1,14 @@
 package auth.sdk.java;
 
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.models.AuthResponse;
 import auth.sdk.java.utils.Config;
 import auth.sdk.java.utils.ConfigLoader;
+import auth.sdk.java.utils.JsonCodecs;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Map;
 
 public class OtpAuthApi {
 
@@ -22,13 +22,11 @@ public class OtpAuthApi {
     }
 
     public static JsonNode loadOtpData(String filepath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readTree(new File(filepath));
+        return JsonCodecs.reader(JsonNode.class).readValue(new File(filepath));
     }
 
     public static JsonNode loadUserData(String userDataPath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readTree(new File(userDataPath));
+        return JsonCodecs.reader(JsonNode.class).readValue(new File(userDataPath));
     }
 
     public static OtpValidationResult validateOtpData(JsonNode otpData) {
@@ -53,24 +51,27 @@ public class OtpAuthApi {
 
         Config config = loadConfig(configPath);
         authenticator = initializeAuthenticator(config);
-        JsonNode userData = loadUserData(userDataPath);
-        JsonNode otpData = loadOtpData(otpDataPath);
-
-        System.out.println("User Data: " + userData.toPrettyString());
-        System.out.println("OTP Data: " + otpData.toPrettyString());
-        Map<String, Object> response = authenticator.auth(
-
-                userData.path("individual_id").asText(),
-                userData.has("individual_id_type") ? userData.path("individual_id_type").asText() : "UIN",
-                null,
-                java.util.Optional.of(otpData.path("txn_id").asText()),
-                java.util.Optional.of(otpData.path("otp").asText()),
-                java.util.Optional.empty(),
-                true
-        );
-
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.convertValue(response, JsonNode.class);
+        try {
+            JsonNode userData = loadUserData(userDataPath);
+            JsonNode otpData = loadOtpData(otpDataPath);
+
+            System.out.println("User Data: " + userData.toPrettyString());
+            System.out.println("OTP Data: " + otpData.toPrettyString());
+            AuthResponse response = authenticator.auth(
+
+                    userData.path("individual_id").asText(),
+                    userData.has("individual_id_type") ? userData.path("individual_id_type").asText() : "UIN",
+                    null,
+                    java.util.Optional.of(otpData.path("txn_id").asText()),
+                    java.util.Optional.of(otpData.path("otp").asText()),
+                    java.util.Optional.empty(),
+                    true
+            );
+
+            return response.toJsonNode();
+        } finally {
+            authenticator.close();
+        }
     }
 
     public static class OtpValidationResult {
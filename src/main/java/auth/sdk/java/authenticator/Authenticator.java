@@ -1,26 +1,31 @@
 package auth.sdk.java.authenticator;
 
 import auth.sdk.java.models.*;
+import auth.sdk.java.utils.BufferPool;
+import auth.sdk.java.utils.CircuitBreakerListener;
 import auth.sdk.java.utils.Config;
 import auth.sdk.java.utils.CryptoUtil;
+import auth.sdk.java.utils.Deadline;
+import auth.sdk.java.utils.EncryptedAuthData;
+import auth.sdk.java.utils.KeyFileWatcher;
+import auth.sdk.java.utils.KeySet;
+import auth.sdk.java.utils.ResponseSignatureVerifier;
 import auth.sdk.java.utils.RestUtil;
+import auth.sdk.java.utils.SegmentedBuffer;
+import auth.sdk.java.utils.SessionKeyPoolStats;
 import auth.sdk.java.exceptions.AuthenticatorCryptoException;
 import auth.sdk.java.exceptions.AuthenticatorException;
 import auth.sdk.java.exceptions.Errors;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URLEncoder;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Utility class for making HTTP requests (GET, POST, etc.) with support for custom headers, cookies, and payloads.
@@ -33,64 +38,189 @@ import java.util.*;
  * </ul>
  * <b>Usage:</b> Used internally by the SDK for communication with external services.
  * </p>
+ * <p>
+ * An {@code Authenticator} is thread-safe once constructed. Build one per configuration and share it
+ * across threads instead of creating one per request, which reloads both PKCS12 files every time.
+ * </p>
  *
  * @author Tezaswa06
  * @version 1.0
  */
 
-public class Authenticator {
+public class Authenticator implements AutoCloseable {
     private final Logger logger;
     private final java.util.logging.Logger julLogger;
     private final RestUtil authRestUtil;
     private final CryptoUtil cryptoUtil;
-    private final String authDomainScheme;
-    private final String partnerMispLk;
-    private final String partnerId;
-    private final String partnerApikey;
-    private final String idaAuthVersion;
-    private final Map<String, String> idaAuthRequestIdByController;
-    private final String idaAuthEnv;
-    private final String timestampFormat;
+    private final BufferPool bufferPool;
+    private final KeyFileWatcher keyFileWatcher;
+    private final ResponseSignatureVerifier responseVerifier;
+    private final Map<String, RequestTemplate> templatesByController;
     private final String authorizationHeaderConstant;
 
     public Authenticator(Config config, Logger customLogger) throws Exception {
         this.logger = customLogger != null ? customLogger : initLogger(config);
+        checkResponseVerification(config.getResponse_verification(), this.logger);
         this.julLogger = java.util.logging.Logger.getLogger(Authenticator.class.getName());
         this.authRestUtil = new RestUtil(
-                config.getMosip_auth_server().getIda_auth_url(),
+                config.getMosip_auth_server(),
                 config.getMosip_auth().getAuthorization_header_constant(),
+                config.getResilience(),
                 this.julLogger
         );
         this.cryptoUtil = new CryptoUtil(
                 config.getCrypto_encrypt(),
                 config.getCrypto_signature(),
+                config.getSession_key_pool(),
                 this.logger
         );
-        this.authDomainScheme = config.getMosip_auth_server().getIda_auth_domain_uri();
-        this.partnerMispLk = config.getMosip_auth().getPartner_misp_lk();
-        this.partnerId = config.getMosip_auth().getPartner_id();
-        this.partnerApikey = config.getMosip_auth().getPartner_apikey();
-        this.idaAuthVersion = config.getMosip_auth().getIda_auth_version();
+        try {
+            Config.BufferPool bufferPoolConfig = config.getBuffer_pool();
+            this.bufferPool = bufferPoolConfig != null && bufferPoolConfig.isEnabled() ? new BufferPool(bufferPoolConfig) : null;
+
+            Map<String, String> requestIdByController = new HashMap<>();
+            requestIdByController.put("auth", config.getMosip_auth().getIda_auth_request_demo_id());
+            requestIdByController.put("kyc", config.getMosip_auth().getIda_auth_request_kyc_id());
+            requestIdByController.put("otp", config.getMosip_auth().getIda_auth_request_otp_id());
+            this.templatesByController = createTemplates(config, requestIdByController);
+
+            this.authorizationHeaderConstant = config.getMosip_auth().getAuthorization_header_constant();
+
+            Config.ResponseVerification responseVerification = config.getResponse_verification();
+            this.responseVerifier = responseVerification != null && responseVerification.isEnabled()
+                    ? new ResponseSignatureVerifier(responseVerification, this.logger)
+                    : null;
+
+            // Started last, so no later failure can leave its thread running
+            Config.KeyRotation keyRotation = config.getKey_rotation();
+            this.keyFileWatcher = keyRotation != null && keyRotation.isWatch_files()
+                    ? new KeyFileWatcher(cryptoUtil.getKeyFiles(), keyRotation.getDebounce_ms(), cryptoUtil::reloadKeys, this.logger)
+                    : null;
+        } catch (Exception e) {
+            cryptoUtil.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Releases the background resources of this instance: the key file watcher and the session key pool's refill
+     * threads. Close it once no more requests will be made; requests made afterwards still work, but without those
+     * resources.
+     */
+    @Override
+    public void close() {
+        if (keyFileWatcher != null) {
+            try {
+                keyFileWatcher.close();
+            } catch (IOException e) {
+                logger.warn("Closing the key file watcher failed: {}", e.getMessage(), e);
+            }
+        }
+        cryptoUtil.close();
+    }
 
-        this.idaAuthRequestIdByController = new HashMap<>();
-        this.idaAuthRequestIdByController.put("auth", config.getMosip_auth().getIda_auth_request_demo_id());
-        this.idaAuthRequestIdByController.put("kyc", config.getMosip_auth().getIda_auth_request_kyc_id());
-        this.idaAuthRequestIdByController.put("otp", config.getMosip_auth().getIda_auth_request_otp_id());
+    /**
+     * Registers a listener for circuit breaker state changes on the IDA endpoints, e.g. to raise alerts.
+     */
+    public void addCircuitBreakerListener(CircuitBreakerListener listener) {
+        authRestUtil.getResiliencePolicy().addListener(listener);
+    }
+
+    /**
+     * Depth, hit/miss counts and refill rate of the session key pool, or empty if it is disabled.
+     */
+    public Optional<SessionKeyPoolStats> getSessionKeyPoolStats() {
+        return cryptoUtil.getSessionKeyPoolStats();
+    }
 
-        this.idaAuthEnv = config.getMosip_auth().getIda_auth_env();
-        this.timestampFormat = config.getMosip_auth().getTimestamp_format();
-        this.authorizationHeaderConstant = config.getMosip_auth().getAuthorization_header_constant();
+    /**
+     * Re-reads the certificate and keystore files and swaps in new keys if they changed, without interrupting
+     * requests in flight. Called automatically when {@code key_rotation.watch_files} is on.
+     *
+     * @return {@code true} if the keys changed
+     */
+    public boolean reloadKeys() throws Exception {
+        return cryptoUtil.reloadKeys();
+    }
 
+    /**
+     * Switches to key files at new paths, e.g. a freshly issued partner keystore, without a restart.
+     */
+    public boolean rotateKeys(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig) throws Exception {
+        return cryptoUtil.rotateKeys(encryptConfig, signConfig);
     }
 
+    /**
+     * The keys new requests are currently using.
+     */
+    public KeySet getKeySet() {
+        return cryptoUtil.getKeySet();
+    }
 
-    public Map<String, Object> genOtp(
+    public OtpResponse genOtp(
             String individualId,
             String individualIdType,
             String txnId,
             boolean email ,
             boolean phone
     ) throws Exception {
+        return genOtp(individualId, individualIdType, txnId, email, phone, Deadline.none());
+    }
+
+    /**
+     * Same as {@link #genOtp(String, String, String, boolean, boolean)}, but abandons the call with
+     * {@code AUT_TMO_001} as soon as {@code deadline} passes.
+     */
+    public OtpResponse genOtp(
+            String individualId,
+            String individualIdType,
+            String txnId,
+            boolean email,
+            boolean phone,
+            Deadline deadline
+    ) throws Exception {
+        PreparedRequest prepared = prepareOtpRequest(individualId, individualIdType, txnId, email, phone, deadline);
+        return readResponse(authRestUtil.postRequest(prepared.pathParams, prepared.headers, prepared.body, null, deadline), OtpResponse::new);
+    }
+
+    public CompletableFuture<OtpResponse> genOtpAsync(
+            String individualId,
+            String individualIdType,
+            String txnId,
+            boolean email,
+            boolean phone
+    ) {
+        return genOtpAsync(individualId, individualIdType, txnId, email, phone, Deadline.none());
+    }
+
+    public CompletableFuture<OtpResponse> genOtpAsync(
+            String individualId,
+            String individualIdType,
+            String txnId,
+            boolean email,
+            boolean phone,
+            Deadline deadline
+    ) {
+        PreparedRequest prepared;
+        try {
+            prepared = prepareOtpRequest(individualId, individualIdType, txnId, email, phone, deadline);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return authRestUtil.postRequestAsync(prepared.pathParams, prepared.headers, prepared.body, null, deadline)
+                .thenApply(httpResponse -> readResponseUnchecked(httpResponse, OtpResponse::new));
+    }
+
+    private PreparedRequest prepareOtpRequest(
+            String individualId,
+            String individualIdType,
+            String txnId,
+            boolean email,
+            boolean phone,
+            Deadline deadline
+    ) throws Exception {
+        deadline.check("prepare");
         List<String> channels = new ArrayList<>();
         if (email) channels.add("EMAIL");
         if (phone) channels.add("PHONE");
@@ -100,49 +230,30 @@ public class Authenticator {
             throw new AuthenticatorException(Errors.AUT_OTP_001.name(), Errors.AUT_OTP_001.getMessage());
         }
 
-        MOSIPOtpRequest request = (MOSIPOtpRequest) getDefaultAuthRequest(
-                "otp",
-                null,
-                txnId,
-                individualId,
-                individualIdType
-        );
-        request.setOtpChannel(channels);
-
-        String pathParams = String.join("/",
-                URLEncoder.encode("otp", StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerMispLk, StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerId, StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerApikey, StandardCharsets.UTF_8)
-        );
+        KeySet keys = cryptoUtil.getKeySet();
+        RequestTemplate template = template("otp");
+        MOSIPOtpRequest request = template.newOtpRequest(individualId, individualIdType, transactionId(txnId), channels);
+        String pathParams = template.getPathParams();
 
-        String fullRequestJson = request.toJson();
-        logger.debug("fullRequestJson=" + fullRequestJson);
+        byte[] fullRequestJson = RequestEnvelopeWriter.toBytes(request);
+        if (logger.isDebugEnabled()) {
+            logger.debug("fullRequestJson=" + new String(fullRequestJson, StandardCharsets.UTF_8));
+        }
 
+        deadline.check("sign");
         Map<String, String> signatureHeader;
         try {
-            signatureHeader = Collections.singletonMap("Signature", cryptoUtil.signAuthRequestData(fullRequestJson));
+            signatureHeader = Collections.singletonMap("Signature", cryptoUtil.signAuthRequestData(keys, fullRequestJson));
         } catch (AuthenticatorCryptoException e) {
             logger.error("Failed to Encrypt Auth Data. Error Message: " + e.getMessage());
             throw e;
         }
 
         logger.debug("Posting to " + pathParams);
-
-        HttpURLConnection connection = authRestUtil.postRequest(
-                pathParams,
-                signatureHeader,
-                fullRequestJson,
-                null
-        );
-
-        try (InputStream is = connection.getInputStream()) {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(is, new TypeReference<Map<String, Object>>() {});
-        }
+        return new PreparedRequest(pathParams, signatureHeader, fullRequestJson);
     }
 
-    public Map<String, Object> auth(
+    public AuthResponse auth(
             String individualId,
             String individualIdType,
             DemographicsModel demographicData,
@@ -151,18 +262,64 @@ public class Authenticator {
             Optional<List<BiometricModel>> biometrics,
             boolean consentObtained
     ) throws Exception {
+        return auth(individualId, individualIdType, demographicData, txnId, otpValue, biometrics, consentObtained, Deadline.none());
+    }
+
+    /**
+     * Same as {@link #auth(String, String, DemographicsModel, Optional, Optional, Optional, boolean)}, but abandons
+     * the call with {@code AUT_TMO_001} as soon as {@code deadline} passes.
+     */
+    public AuthResponse auth(
+            String individualId,
+            String individualIdType,
+            DemographicsModel demographicData,
+            Optional<String> txnId,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained,
+            Deadline deadline
+    ) throws Exception {
 
 
         String transactionId = txnId.orElse(UUID.randomUUID().toString());
         String otp = otpValue.orElse(null);
         List<BiometricModel> biometricList = biometrics.orElse(Collections.emptyList());
 
-        System.out.println("Transaction ID: " + transactionId + ", OTP: " + otp + ", Biometrics: " + biometricList +
-                ", Consent Obtained: " + consentObtained + ", Individual ID: " + individualId + ", Individual ID Type: " + individualIdType);
-        return authenticate("auth", individualId, individualIdType, demographicData, otp, biometricList, consentObtained, transactionId);
+        logger.debug("Auth request: transaction ID {}, individual ID type {}, OTP given {}, {} biometrics, consent obtained {}",
+                transactionId, individualIdType, otp != null, biometricList.size(), consentObtained);
+        return authenticate("auth", individualId, individualIdType, demographicData, otp, biometricList, consentObtained, transactionId,
+                deadline, AuthResponse::new);
+    }
+
+    public CompletableFuture<AuthResponse> authAsync(
+            String individualId,
+            String individualIdType,
+            DemographicsModel demographicData,
+            Optional<String> txnId,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained
+    ) {
+        return authAsync(individualId, individualIdType, demographicData, txnId, otpValue, biometrics, consentObtained, Deadline.none());
     }
 
-    public Map<String, Object> kyc(
+    public CompletableFuture<AuthResponse> authAsync(
+            String individualId,
+            String individualIdType,
+            DemographicsModel demographicData,
+            Optional<String> txnId,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained,
+            Deadline deadline
+    ) {
+        String transactionId = txnId.orElse(UUID.randomUUID().toString());
+        return authenticateAsync("auth", individualId, individualIdType, demographicData,
+                otpValue.orElse(null), biometrics.orElse(Collections.emptyList()), consentObtained, transactionId,
+                deadline, AuthResponse::new);
+    }
+
+    public KycResponse kyc(
             String txnId,
             String individualId,
             String individualIdType,
@@ -170,6 +327,23 @@ public class Authenticator {
             Optional<String> otpValue,
             Optional<List<BiometricModel>> biometrics,
             boolean consentObtained
+    ) throws Exception {
+        return kyc(txnId, individualId, individualIdType, demographicData, otpValue, biometrics, consentObtained, Deadline.none());
+    }
+
+    /**
+     * Same as {@link #kyc(String, String, String, Optional, Optional, Optional, boolean)}, but abandons the call
+     * with {@code AUT_TMO_001} as soon as {@code deadline} passes.
+     */
+    public KycResponse kyc(
+            String txnId,
+            String individualId,
+            String individualIdType,
+            Optional<DemographicsModel> demographicData,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained,
+            Deadline deadline
     ) throws Exception {
         // Use default values if Optional parameters are empty
         DemographicsModel resolvedDemographicData = demographicData.orElse(null);
@@ -185,10 +359,86 @@ public class Authenticator {
                 resolvedOtpValue,
                 resolvedBiometrics,
                 consentObtained,
-                txnId
+                txnId,
+                deadline,
+                KycResponse::new
+        );
+    }
+
+    public CompletableFuture<KycResponse> kycAsync(
+            String txnId,
+            String individualId,
+            String individualIdType,
+            Optional<DemographicsModel> demographicData,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained
+    ) {
+        return kycAsync(txnId, individualId, individualIdType, demographicData, otpValue, biometrics, consentObtained, Deadline.none());
+    }
+
+    public CompletableFuture<KycResponse> kycAsync(
+            String txnId,
+            String individualId,
+            String individualIdType,
+            Optional<DemographicsModel> demographicData,
+            Optional<String> otpValue,
+            Optional<List<BiometricModel>> biometrics,
+            boolean consentObtained,
+            Deadline deadline
+    ) {
+        return authenticateAsync(
+                "kyc",
+                individualId,
+                individualIdType,
+                demographicData.orElse(null),
+                otpValue.orElse(null),
+                biometrics.orElse(Collections.emptyList()),
+                consentObtained,
+                txnId,
+                deadline,
+                KycResponse::new
         );
     }
 
+    public Map<String, Object> decryptResponse(KycResponse response) throws Exception {
+        try {
+            String sessionKeyB64 = response.getSessionKey();
+            String identityB64 = response.getIdentity();
+
+            if (sessionKeyB64 == null || sessionKeyB64.isEmpty() || identityB64 == null || identityB64.isEmpty()) {
+                throw new IllegalArgumentException("Response does not contain 'sessionKey' or 'identity'");
+            }
+
+            return cryptoUtil.decryptAuthData(sessionKeyB64, identityB64);
+        } catch (Exception e) {
+            logger.error("Error decrypting response: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Decrypts the identity of a KYC reply into a typed {@link KycIdentity}. For many replies at once use
+     * {@link BulkKycDecryptor}.
+     */
+    public KycIdentity decryptIdentity(KycResponse response) throws Exception {
+        return KycIdentity.parse(response.getTransactionID(), decryptIdentityBytes(response));
+    }
+
+    /**
+     * Plain identity JSON of a KYC reply, left unparsed.
+     */
+    byte[] decryptIdentityBytes(KycResponse response) throws Exception {
+        String sessionKeyB64 = response.getSessionKey();
+        String identityB64 = response.getIdentity();
+
+        if (sessionKeyB64 == null || sessionKeyB64.isEmpty() || identityB64 == null || identityB64.isEmpty()) {
+            throw new IllegalArgumentException("Response does not contain 'sessionKey' or 'identity'");
+        }
+
+        return cryptoUtil.decryptAuthDataBytes(sessionKeyB64, identityB64);
+    }
+
     public Map<String, Object> decryptResponse(Map<String, Object> responseBody) throws Exception {
         try {
             if (!responseBody.containsKey("response")) {
@@ -222,84 +472,147 @@ public class Authenticator {
         }
     }
 
+    /**
+     * Response signatures are checked unless the configuration opts out explicitly, and an opt-out is logged.
+     */
+    private static void checkResponseVerification(Config.ResponseVerification responseVerification, Logger logger)
+            throws AuthenticatorCryptoException {
+        if (responseVerification != null && responseVerification.isEnabled()) {
+            return;
+        }
+        if (responseVerification == null || !responseVerification.isAllow_unverified()) {
+            String errMsg = Errors.AUT_CRY_008.getMessage("Verification is disabled; set response_verification.enabled=true,"
+                    + " or response_verification.allow_unverified=true to accept unsigned responses.");
+            logger.error(errMsg);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_008.name(), errMsg);
+        }
+        logger.warn("Response signature verification is disabled (response_verification.allow_unverified=true);"
+                + " IDA responses will be accepted without checking their signature.");
+    }
+
     private static Logger initLogger(Config config) {
         Logger logger = LoggerFactory.getLogger(Authenticator.class);
         return logger;
     }
 
-    private MOSIPBaseRequest getDefaultBaseRequest(String controller, String timestamp, String txnId, String individualId, String individualIdType) {
-        String timestampStr = (timestamp == null || timestamp.isEmpty())
-                ? DateTimeFormatter.ofPattern(timestampFormat).withZone(ZoneOffset.UTC).format(Instant.now())
-                : timestamp;
+    /**
+     * One template per controller that has a request ID configured; the others are rejected when used.
+     */
+    private static Map<String, RequestTemplate> createTemplates(Config config, Map<String, String> requestIdByController) {
+        Config.MosipAuth mosipAuth = config.getMosip_auth();
+        Map<String, RequestTemplate> templates = new HashMap<>();
+        requestIdByController.forEach((controller, id) -> {
+            if (id != null && !id.isEmpty()) {
+                templates.put(controller, new RequestTemplate(controller, id,
+                        mosipAuth.getIda_auth_version(),
+                        config.getMosip_auth_server().getIda_auth_domain_uri(),
+                        mosipAuth.getIda_auth_env(),
+                        mosipAuth.getTimestamp_format(),
+                        mosipAuth.getPartner_misp_lk(),
+                        mosipAuth.getPartner_id(),
+                        mosipAuth.getPartner_apikey()));
+            }
+        });
+        return Collections.unmodifiableMap(templates);
+    }
 
-        String transactionId = String.valueOf(1234567890);
+    /**
+     * The caller's transaction ID, or a fresh one when none was given. IDA ties the OTP it sends to the transaction
+     * ID of the request, so an OTP must be verified with the ID it was generated under.
+     */
+    private static String transactionId(String txnId) {
+        return txnId != null && !txnId.isEmpty() ? txnId : UUID.randomUUID().toString();
+    }
 
-        String id = idaAuthRequestIdByController.get(controller);
-        if (id == null || id.isEmpty()) {
-            String errMsg = Errors.AUT_CRY_005.getMessage(controller, String.join(" | ", idaAuthRequestIdByController.keySet()));
+    private RequestTemplate template(String controller) {
+        RequestTemplate template = templatesByController.get(controller);
+        if (template == null) {
+            String errMsg = Errors.AUT_CRY_005.getMessage(controller, String.join(" | ", templatesByController.keySet()));
             logger.error("No id found for controller: " + controller);
             throw new IllegalArgumentException(errMsg);
         }
+        return template;
+    }
+
+    private <T extends IdaResponse> T authenticate(String controller, String individualId, String individualIdType, DemographicsModel demographicData,
+                                                   String otpValue, List<BiometricModel> biometrics, boolean consentObtained, String txnId,
+                                                   Deadline deadline, ResponseParser<T> parser) throws Exception {
+        PreparedRequest prepared = prepareAuthRequest(controller, individualId, individualIdType, demographicData,
+                otpValue, biometrics, consentObtained, txnId, deadline);
+        // An OTP is single-use, so a request carrying one must never reach IDA twice
+        boolean hedgeable = otpValue == null;
+
+        T response;
+        if (prepared.pooledBody == null) {
+            response = readResponse(authRestUtil.postRequest(prepared.pathParams, prepared.headers, prepared.body, null, deadline, hedgeable), parser);
+        } else {
+            try {
+                response = readResponse(authRestUtil.postRequest(prepared.pathParams, prepared.headers, prepared.pooledBody, null, deadline, hedgeable),
+                        parser);
+            } finally {
+                prepared.pooledBody.release();
+            }
+        }
+        logger.info("Auth Request for Demographic Completed.");
+        return response;
+    }
 
-        MOSIPBaseRequest baseRequest = new MOSIPBaseRequest();
-        baseRequest.setId(id);
-        baseRequest.setVersion(idaAuthVersion);
-        baseRequest.setIndividualId(individualId);
-        baseRequest.setIndividualIdType(individualIdType);
-        baseRequest.setTransactionID(transactionId);
-        baseRequest.setRequestTime(timestampStr);
-        return baseRequest;
-    }
-
-    private Object getDefaultAuthRequest(String controller, String timestamp, String txnId, String individualId, String individualIdType) throws Exception {
-        MOSIPBaseRequest baseRequest = getDefaultBaseRequest(controller, timestamp, txnId, individualId, individualIdType);
-
-        if ("otp".equalsIgnoreCase(controller)) {
-            MOSIPOtpRequest otpRequest = new MOSIPOtpRequest();
-            otpRequest.setId(baseRequest.getId());
-            otpRequest.setVersion(baseRequest.getVersion());
-            otpRequest.setIndividualId(baseRequest.getIndividualId());
-            otpRequest.setIndividualIdType(baseRequest.getIndividualIdType());
-            otpRequest.setTransactionID(baseRequest.getTransactionID());
-            otpRequest.setRequestTime(baseRequest.getRequestTime());
-            otpRequest.setOtpChannel(Collections.emptyList());
-            otpRequest.setMetadata(Collections.emptyMap());
-            return otpRequest;
+    private <T extends IdaResponse> CompletableFuture<T> authenticateAsync(String controller, String individualId, String individualIdType, DemographicsModel demographicData,
+                                                                           String otpValue, List<BiometricModel> biometrics, boolean consentObtained, String txnId,
+                                                                           Deadline deadline, ResponseParser<T> parser) {
+        PreparedRequest prepared;
+        try {
+            prepared = prepareAuthRequest(controller, individualId, individualIdType, demographicData,
+                    otpValue, biometrics, consentObtained, txnId, deadline);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        boolean hedgeable = otpValue == null;
+
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        if (prepared.pooledBody == null) {
+            sent = authRestUtil.postRequestAsync(prepared.pathParams, prepared.headers, prepared.body, null, deadline, hedgeable);
+        } else {
+            SegmentedBuffer pooledBody = prepared.pooledBody;
+            sent = authRestUtil.postRequestAsync(prepared.pathParams, prepared.headers, pooledBody, null, deadline, hedgeable)
+                    .whenComplete((httpResponse, error) -> pooledBody.release());
         }
+        return sent
+                .thenApply(httpResponse -> {
+                    T response = readResponseUnchecked(httpResponse, parser);
+                    logger.info("Auth Request for Demographic Completed.");
+                    return response;
+                });
+    }
 
-        MOSIPAuthRequest authRequest = new MOSIPAuthRequest();
-        authRequest.setId(baseRequest.getId());
-        authRequest.setVersion(baseRequest.getVersion());
-        authRequest.setIndividualId(baseRequest.getIndividualId());
-        authRequest.setIndividualIdType(baseRequest.getIndividualIdType());
-        authRequest.setTransactionID(baseRequest.getTransactionID());
-        authRequest.setRequestTime(baseRequest.getRequestTime());
-        authRequest.setSpecVersion(idaAuthVersion);
-        authRequest.setThumbprint(cryptoUtil.getEncCertThumbprint());
-        authRequest.setDomainUri(authDomainScheme);
-        authRequest.setEnv(idaAuthEnv);
-        authRequest.setRequest("");
-        authRequest.setConsentObtained(true);
-        authRequest.setRequestHMAC("");
-        authRequest.setRequestSessionKey("");
-        authRequest.setMetadata(Collections.emptyMap());
-        return authRequest;
-    }
-
-    private Map<String, Object> authenticate(String controller, String individualId, String individualIdType, DemographicsModel demographicData,
-                                             String otpValue, List<BiometricModel> biometrics, boolean consentObtained, String txnId) throws Exception {
+    private PreparedRequest prepareAuthRequest(String controller, String individualId, String individualIdType, DemographicsModel demographicData,
+                                               String otpValue, List<BiometricModel> biometrics, boolean consentObtained, String txnId,
+                                               Deadline deadline) throws Exception {
         logger.info("Received Auth Request for demographic.");
+        deadline.check("prepare");
 
-        MOSIPAuthRequest authRequest = (MOSIPAuthRequest) getDefaultAuthRequest(controller, null, txnId, individualId, individualIdType);
+        // One snapshot for thumbprint, session key and signature, so a concurrent key rotation cannot mix them
+        KeySet keys = cryptoUtil.getKeySet();
+        RequestTemplate template = template(controller);
+        MOSIPAuthRequest authRequest = template.newAuthRequest(individualId, individualIdType, transactionId(txnId),
+                keys.getEncryptThumbprint());
 
         MOSIPEncryptAuthRequest request = new MOSIPEncryptAuthRequest();
         request.setTimestamp(authRequest.getRequestTime());
         request.setBiometrics(biometrics != null ? biometrics : Collections.emptyList());
         request.setDemographics(demographicData);
         request.setOtp(otpValue);
-        System.out.println(request.toJson());
+        deadline.check("encrypt");
+
+        String pathParams = template.getPathParams();
+        logger.debug("pathParams={}", pathParams);
+
+        if (bufferPool != null) {
+            return preparePooledAuthRequest(pathParams, authRequest, request, keys, deadline);
+        }
+
         try {
-            String[] encryptedData = cryptoUtil.encryptAuthData(request.toJson().getBytes(StandardCharsets.UTF_8));
+            String[] encryptedData = cryptoUtil.encryptAuthData(keys, request.toJsonBytes());
             authRequest.setRequest(encryptedData[0]);
             authRequest.setRequestSessionKey(encryptedData[1]);
             authRequest.setRequestHMAC(encryptedData[2]);
@@ -309,47 +622,137 @@ public class Authenticator {
             throw exp;
         }
 
-        String pathParams = String.join("/",
-                URLEncoder.encode(controller, StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerMispLk, StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerId, StandardCharsets.UTF_8),
-                URLEncoder.encode(partnerApikey, StandardCharsets.UTF_8)
-        );
-        System.out.println("pathParams" + pathParams);
-
-        String fullRequestJson = authRequest.toJson();
-        logger.debug("fullRequestJson={}", fullRequestJson);
+        byte[] fullRequestJson = RequestEnvelopeWriter.toBytes(authRequest);
+        if (logger.isDebugEnabled()) {
+            logger.debug("fullRequestJson={}", new String(fullRequestJson, StandardCharsets.UTF_8));
+        }
 
+        deadline.check("sign");
         Map<String, String> signatureHeader;
         try {
-            signatureHeader = Map.of("Signature", cryptoUtil.signAuthRequestData(fullRequestJson));
+            signatureHeader = Map.of("Signature", cryptoUtil.signAuthRequestData(keys, fullRequestJson));
 
         } catch (AuthenticatorCryptoException exp) {
             logger.error("Failed to Sign Auth Data. Error Message: {}", exp.getMessage());
             throw exp;
         }
 
-        HttpURLConnection connection = authRestUtil.postRequest(
-                pathParams,
-                signatureHeader,
-                fullRequestJson,
-                null
-        );
+        return new PreparedRequest(pathParams, signatureHeader, fullRequestJson);
+    }
 
-        Map<String, Object> response;
-        try (InputStream is = connection.getInputStream()) {
-            ObjectMapper mapper = new ObjectMapper();
-            response = mapper.readValue(is, new TypeReference<Map<String, Object>>() {});
+    /**
+     * Same as the tail of {@link #prepareAuthRequest} but every stage writes into pooled segments: the plain JSON,
+     * its encrypted Base64URL form and the final body are never joined into one contiguous array. The plain JSON is
+     * wiped before its segments go back to the pool. The returned body holds one reference which the caller releases
+     * once the transport is done with it.
+     */
+    private PreparedRequest preparePooledAuthRequest(String pathParams, MOSIPAuthRequest authRequest, MOSIPEncryptAuthRequest request,
+                                                     KeySet keys, Deadline deadline) throws Exception {
+        SegmentedBuffer encrypted = bufferPool.newBuffer();
+        SegmentedBuffer body = null;
+        try {
+            SegmentedBuffer plain = bufferPool.newBuffer();
+            try {
+                request.writeJson(plain);
+                EncryptedAuthData encryptedData = cryptoUtil.encryptAuthData(keys, plain.segments(), encrypted);
+                authRequest.setRequestSessionKey(encryptedData.getRequestSessionKey());
+                authRequest.setRequestHMAC(encryptedData.getRequestHMAC());
+            } catch (AuthenticatorCryptoException exp) {
+                logger.error("Failed to Encrypt Auth Data. Error Message: {}", exp.getMessage());
+                throw exp;
+            } finally {
+                plain.wipe();
+                plain.release();
+            }
 
-        } catch (IOException e) {
-            InputStream es = connection.getErrorStream();
-            if (es != null) {
-                String errorResponse = new String(es.readAllBytes(), StandardCharsets.UTF_8);
-                System.err.println("Server error response: " + errorResponse);
+            body = bufferPool.newBuffer();
+            RequestEnvelopeWriter.write(authRequest, encrypted, body);
+            if (logger.isDebugEnabled()) {
+                logger.debug("fullRequestJson={}", body);
+            }
+
+            deadline.check("sign");
+            Map<String, String> signatureHeader;
+            try {
+                signatureHeader = Map.of("Signature", cryptoUtil.signAuthRequestData(keys, body.segments()));
+            } catch (AuthenticatorCryptoException exp) {
+                logger.error("Failed to Sign Auth Data. Error Message: {}", exp.getMessage());
+                throw exp;
+            }
+
+            PreparedRequest prepared = new PreparedRequest(pathParams, signatureHeader, body);
+            body = null;
+            return prepared;
+        } finally {
+            encrypted.release();
+            if (body != null) {
+                body.release();
             }
-            throw e;
         }
-        logger.info("Auth Request for Demographic Completed.");
-        return response;
+    }
+
+    /**
+     * Checks the response signature, when enabled, over the bytes exactly as received and only then parses them.
+     */
+    private <T extends IdaResponse> T readResponse(HttpResponse<byte[]> httpResponse, ResponseParser<T> parser)
+            throws IOException, AuthenticatorCryptoException {
+        if (httpResponse.statusCode() >= 400) {
+            String errorResponse = new String(httpResponse.body(), StandardCharsets.UTF_8);
+            logger.error("Server error response: {}", errorResponse);
+            throw new IOException("Server returned HTTP response code: " + httpResponse.statusCode()
+                    + " for URL: " + httpResponse.uri());
+        }
+        if (responseVerifier != null) {
+            try {
+                responseVerifier.verify(
+                        httpResponse.headers().firstValue(responseVerifier.getSignatureHeader()).orElse(null),
+                        httpResponse.body());
+            } catch (AuthenticatorCryptoException exp) {
+                logger.error("Rejecting response from {}. Error Message: {}", httpResponse.uri(), exp.getMessage());
+                throw exp;
+            }
+        }
+        return parser.parse(httpResponse.body());
+    }
+
+    private <T extends IdaResponse> T readResponseUnchecked(HttpResponse<byte[]> httpResponse, ResponseParser<T> parser) {
+        try {
+            return readResponse(httpResponse, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (AuthenticatorCryptoException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseParser<T extends IdaResponse> {
+        T parse(byte[] body) throws IOException;
+    }
+
+    /**
+     * Signed request ready to be handed to the transport. The body is serialized exactly once and the same
+     * bytes are both signed and sent, since the {@code Signature} header has to cover them before any of the
+     * body can go on the wire. Exactly one of {@code body} and {@code pooledBody} is set.
+     */
+    private static final class PreparedRequest {
+        private final String pathParams;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final SegmentedBuffer pooledBody;
+
+        private PreparedRequest(String pathParams, Map<String, String> headers, byte[] body) {
+            this.pathParams = pathParams;
+            this.headers = headers;
+            this.body = body;
+            this.pooledBody = null;
+        }
+
+        private PreparedRequest(String pathParams, Map<String, String> headers, SegmentedBuffer pooledBody) {
+            this.pathParams = pathParams;
+            this.headers = headers;
+            this.body = null;
+            this.pooledBody = pooledBody;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.Deadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs large numbers of auth, KYC and OTP calls against one shared {@link Authenticator} on virtual threads.
+ * <p>
+ * Every task runs the ordinary blocking {@link Authenticator} call on its own virtual thread, so a task waiting
+ * on IDA does not hold a platform thread. Backpressure works in both directions:
+ * <ul>
+ *   <li>At most {@code maxInFlight} tasks are running or waiting to be handed to the sink at any time. The task
+ *   iterator is only advanced when a slot frees up, so the input can be a lazy stream of millions of records.</li>
+ *   <li>Results are handed to the sink on the calling thread, in completion order or, with
+ *   {@link #executeInOrder}, in input order. A slot is only released once the sink has accepted the result, so a
+ *   slow sink throttles the whole run.</li>
+ * </ul>
+ * A failing task never aborts the batch; its exception is captured on the {@link BatchResult}.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class BatchAuthenticator implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BatchAuthenticator.class);
+    private static final Completion END = new Completion(-1, null);
+
+    private final Authenticator authenticator;
+    private final int maxInFlight;
+    private final long taskTimeoutMillis;
+    private final ExecutorService executor;
+
+    public BatchAuthenticator(Authenticator authenticator, Config.Batch config) {
+        this(authenticator, config.getMax_in_flight(), config.getTask_timeout_ms());
+    }
+
+    /**
+     * @param maxInFlight       upper bound on tasks running or awaiting the sink at once
+     * @param taskTimeoutMillis per-task {@link Deadline}; {@code 0} leaves tasks bounded only by the transport timeouts
+     */
+    public BatchAuthenticator(Authenticator authenticator, int maxInFlight, long taskTimeoutMillis) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.authenticator = authenticator;
+        this.maxInFlight = maxInFlight;
+        this.taskTimeoutMillis = taskTimeoutMillis;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Runs every task from {@code tasks} and streams each result to {@code sink} as it completes. Blocks until the
+     * iterator is exhausted and every submitted task has been delivered.
+     *
+     * @throws InterruptedException if the calling thread is interrupted; no further tasks are submitted
+     */
+    public BatchSummary execute(Iterable<? extends BatchTask<?>> tasks, Consumer<? super BatchResult<?>> sink) throws InterruptedException {
+        return run(tasks, sink, false);
+    }
+
+    /**
+     * Same as {@link #execute}, but results are handed to {@code sink} in the order the iterator produced the tasks.
+     * A result that completes before those ahead of it waits for them and keeps its slot meanwhile, so
+     * {@code maxInFlight} also bounds the results held back for reordering.
+     *
+     * @throws InterruptedException if the calling thread is interrupted; no further tasks are submitted
+     */
+    public BatchSummary executeInOrder(Iterable<? extends BatchTask<?>> tasks, Consumer<? super BatchResult<?>> sink) throws InterruptedException {
+        return run(tasks, sink, true);
+    }
+
+    private BatchSummary run(Iterable<? extends BatchTask<?>> tasks, Consumer<? super BatchResult<?>> sink,
+                             boolean inputOrder) throws InterruptedException {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(maxInFlight);
+        BlockingQueue<Completion> completed = new LinkedBlockingQueue<>();
+        AtomicLong submitted = new AtomicLong();
+        AtomicReference<RuntimeException> feederError = new AtomicReference<>();
+
+        Thread feeder = Thread.ofVirtual().name("ida-batch-feeder").start(() -> {
+            try {
+                Iterator<? extends BatchTask<?>> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    slots.acquire();
+                    BatchTask<?> task = iterator.next();
+                    long sequence = submitted.get();
+                    executor.execute(() -> completed.add(new Completion(sequence, task.run(authenticator, newDeadline()))));
+                    // Counted only once accepted: a rejected task (e.g. after close) would otherwise be waited for forever
+                    submitted.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("Batch task source failed after {} tasks: {}", submitted.get(), e.getMessage(), e);
+                feederError.set(e);
+            } finally {
+                completed.add(END);
+            }
+        });
+
+        // Input order only: results that completed ahead of their turn, by sequence
+        Map<Long, BatchResult<?>> held = new HashMap<>();
+        long delivered = 0;
+        long succeeded = 0;
+        long total = -1;
+        try {
+            while (total < 0 || delivered < total) {
+                Completion completion = completed.take();
+                if (completion == END) {
+                    total = submitted.get();
+                    continue;
+                }
+                BatchResult<?> result = completion.result;
+                if (inputOrder && completion.sequence != delivered) {
+                    held.put(completion.sequence, result);
+                    continue;
+                }
+                while (result != null) {
+                    try {
+                        sink.accept(result);
+                    } finally {
+                        slots.release();
+                    }
+                    delivered++;
+                    if (result.isSuccess()) {
+                        succeeded++;
+                    }
+                    result = inputOrder ? held.remove(delivered) : null;
+                }
+            }
+        } finally {
+            feeder.interrupt();
+        }
+
+        if (feederError.get() != null) {
+            throw feederError.get();
+        }
+        BatchSummary summary = new BatchSummary(total, succeeded, delivered - succeeded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Batch completed: {}", summary);
+        return summary;
+    }
+
+    private Deadline newDeadline() {
+        return taskTimeoutMillis > 0 ? Deadline.afterMillis(taskTimeoutMillis) : Deadline.none();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static final class Completion {
+        private final long sequence;
+        private final BatchResult<?> result;
+
+        private Completion(long sequence, BatchResult<?> result) {
+            this.sequence = sequence;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.IdaResponse;
+import lombok.Getter;
+
+/**
+ * Outcome of one {@link BatchTask}. Exactly one of {@link #getResponse()} and {@link #getError()} is set;
+ * an IDA reply that carries {@code errors} still counts as a successful call.
+ *
+ * @param <T> the typed IDA response the task produced
+ */
+@Getter
+public final class BatchResult<T extends IdaResponse> {
+    private final String taskId;
+    private final T response;
+    private final Throwable error;
+    private final long durationNanos;
+
+    private BatchResult(String taskId, T response, Throwable error, long durationNanos) {
+        this.taskId = taskId;
+        this.response = response;
+        this.error = error;
+        this.durationNanos = durationNanos;
+    }
+
+    static <T extends IdaResponse> BatchResult<T> success(String taskId, T response, long durationNanos) {
+        return new BatchResult<>(taskId, response, null, durationNanos);
+    }
+
+    static <T extends IdaResponse> BatchResult<T> failure(String taskId, Throwable error, long durationNanos) {
+        return new BatchResult<>(taskId, null, error, durationNanos);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
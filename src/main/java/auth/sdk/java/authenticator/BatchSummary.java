@@ -0,0 +1,27 @@
+package auth.sdk.java.authenticator;
+
+import lombok.Getter;
+
+/**
+ * Totals for one {@link BatchAuthenticator#execute} run.
+ */
+@Getter
+public final class BatchSummary {
+    private final long submitted;
+    private final long succeeded;
+    private final long failed;
+    private final long elapsedMillis;
+
+    BatchSummary(long submitted, long succeeded, long failed, long elapsedMillis) {
+        this.submitted = submitted;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchSummary{submitted=" + submitted + ", succeeded=" + succeeded + ", failed=" + failed
+                + ", elapsedMillis=" + elapsedMillis + "}";
+    }
+}
@@ -0,0 +1,77 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.AuthResponse;
+import auth.sdk.java.models.BiometricModel;
+import auth.sdk.java.models.DemographicsModel;
+import auth.sdk.java.models.IdaResponse;
+import auth.sdk.java.models.KycResponse;
+import auth.sdk.java.models.OtpResponse;
+import auth.sdk.java.utils.Deadline;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One unit of work for {@link BatchAuthenticator}: an auth, KYC or OTP call plus a caller-chosen id that is
+ * echoed back on the matching {@link BatchResult}.
+ *
+ * @param <T> the typed IDA response the task produces
+ */
+public final class BatchTask<T extends IdaResponse> {
+
+    /**
+     * The blocking {@link Authenticator} call a task performs.
+     */
+    @FunctionalInterface
+    public interface Call<T extends IdaResponse> {
+        T execute(Authenticator authenticator, Deadline deadline) throws Exception;
+    }
+
+    private final String id;
+    private final Call<T> call;
+
+    private BatchTask(String id, Call<T> call) {
+        this.id = id;
+        this.call = call;
+    }
+
+    public static <T extends IdaResponse> BatchTask<T> of(String id, Call<T> call) {
+        return new BatchTask<>(id, call);
+    }
+
+    public static BatchTask<AuthResponse> auth(String id, String individualId, String individualIdType,
+                                               DemographicsModel demographicData, String otpValue,
+                                               List<BiometricModel> biometrics, boolean consentObtained) {
+        return new BatchTask<>(id, (authenticator, deadline) -> authenticator.auth(
+                individualId, individualIdType, demographicData, Optional.empty(), Optional.ofNullable(otpValue),
+                Optional.ofNullable(biometrics), consentObtained, deadline));
+    }
+
+    public static BatchTask<KycResponse> kyc(String id, String txnId, String individualId, String individualIdType,
+                                             DemographicsModel demographicData, String otpValue,
+                                             List<BiometricModel> biometrics, boolean consentObtained) {
+        return new BatchTask<>(id, (authenticator, deadline) -> authenticator.kyc(
+                txnId, individualId, individualIdType, Optional.ofNullable(demographicData), Optional.ofNullable(otpValue),
+                Optional.ofNullable(biometrics), consentObtained, deadline));
+    }
+
+    public static BatchTask<OtpResponse> otp(String id, String individualId, String individualIdType, String txnId,
+                                             boolean email, boolean phone) {
+        return new BatchTask<>(id, (authenticator, deadline) -> authenticator.genOtp(
+                individualId, individualIdType, txnId, email, phone, deadline));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    BatchResult<T> run(Authenticator authenticator, Deadline deadline) {
+        long start = System.nanoTime();
+        try {
+            T response = call.execute(authenticator, deadline);
+            return BatchResult.success(id, response, System.nanoTime() - start);
+        } catch (Throwable e) {
+            return BatchResult.failure(id, e, System.nanoTime() - start);
+        }
+    }
+}
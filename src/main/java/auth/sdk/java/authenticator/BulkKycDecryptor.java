@@ -0,0 +1,163 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.KycIdentity;
+import auth.sdk.java.models.KycResponse;
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Decrypts the identities of many KYC replies in parallel on a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * Each reply is decrypted, parsed into a {@link KycIdentity} and, for {@link #writeNdjson}, serialized to its
+ * output line on a pool thread; the calling thread only hands finished results to the sink. Results are delivered
+ * in input order. At most {@code 4 * parallelism} replies are in flight, and the input is only advanced as results
+ * are delivered, so it can be a lazy iterator over a file of any size. A reply that fails to decrypt never aborts
+ * the run; its exception is captured on the {@link KycDecryptResult}.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class BulkKycDecryptor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BulkKycDecryptor.class);
+    private static final byte NEWLINE = '\n';
+
+    private final Authenticator authenticator;
+    private final ForkJoinPool pool;
+    private final int window;
+
+    public BulkKycDecryptor(Authenticator authenticator) {
+        this(authenticator, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism number of pool threads decrypting at once
+     */
+    public BulkKycDecryptor(Authenticator authenticator, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.authenticator = authenticator;
+        this.pool = new ForkJoinPool(parallelism);
+        this.window = parallelism * 4;
+    }
+
+    /**
+     * Decrypts every reply from {@code responses} and hands each result to {@code sink} in input order.
+     */
+    public BatchSummary decrypt(Iterable<? extends KycResponse> responses, ResultSink<? super KycDecryptResult> sink) throws IOException {
+        return run(responses, this::decryptOne, KycDecryptResult::isSuccess, sink);
+    }
+
+    /**
+     * Decrypts every reply from {@code responses} and writes one JSON object per line to {@code out}, in input order:
+     * {@code {"index":0,"transactionID":"...","identity":{...}}} on success or
+     * {@code {"index":0,"transactionID":"...","error":"..."}} on failure. {@code out} is flushed but not closed.
+     */
+    public BatchSummary writeNdjson(Iterable<? extends KycResponse> responses, OutputStream out) throws IOException {
+        BatchSummary summary = run(responses, (index, response) -> new NdjsonLine(decryptOne(index, response)),
+                line -> line.success, line -> out.write(line.bytes));
+        out.flush();
+        return summary;
+    }
+
+    private <R> BatchSummary run(Iterable<? extends KycResponse> responses, Work<R> work, Predicate<R> isSuccess,
+                                 ResultSink<? super R> sink) throws IOException {
+        long start = System.nanoTime();
+        Deque<ForkJoinTask<R>> pending = new ArrayDeque<>(window);
+        long submitted = 0;
+        long succeeded = 0;
+        try {
+            for (KycResponse response : responses) {
+                long index = submitted++;
+                pending.add(pool.submit(() -> work.apply(index, response)));
+                if (pending.size() >= window) {
+                    succeeded += deliver(pending.poll().join(), isSuccess, sink);
+                }
+            }
+            while (!pending.isEmpty()) {
+                succeeded += deliver(pending.poll().join(), isSuccess, sink);
+            }
+        } finally {
+            for (ForkJoinTask<R> task : pending) {
+                task.cancel(false);
+            }
+        }
+
+        BatchSummary summary = new BatchSummary(submitted, succeeded, submitted - succeeded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Bulk KYC decryption completed: {}", summary);
+        return summary;
+    }
+
+    private static <R> int deliver(R result, Predicate<R> isSuccess, ResultSink<? super R> sink) throws IOException {
+        sink.accept(result);
+        return isSuccess.test(result) ? 1 : 0;
+    }
+
+    private KycDecryptResult decryptOne(long index, KycResponse response) {
+        try {
+            return KycDecryptResult.success(index, authenticator.decryptIdentity(response));
+        } catch (Exception e) {
+            return KycDecryptResult.failure(index, response.getTransactionID(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Receiver of results on the calling thread. May throw {@link IOException}, which stops the run.
+     */
+    @FunctionalInterface
+    public interface ResultSink<R> {
+        void accept(R result) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Work<R> {
+        R apply(long index, KycResponse response);
+    }
+
+    private static final class NdjsonLine {
+        private final byte[] bytes;
+        private final boolean success;
+
+        private NdjsonLine(KycDecryptResult result) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+            try (JsonGenerator generator = JsonCodecs.factory().createGenerator(line, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeNumberField("index", result.getIndex());
+                generator.writeStringField("transactionID", result.getTransactionID());
+                if (result.isSuccess()) {
+                    generator.writeFieldName("identity");
+                    result.getIdentity().writeJson(generator);
+                } else {
+                    generator.writeStringField("error", String.valueOf(result.getError().getMessage()));
+                }
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            line.write(NEWLINE);
+            this.bytes = line.toByteArray();
+            this.success = result.isSuccess();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.KycIdentity;
+import lombok.Getter;
+
+/**
+ * Outcome of decrypting one KYC reply in a {@link BulkKycDecryptor} run. Exactly one of {@link #getIdentity()}
+ * and {@link #getError()} is set. {@code index} is the position of the reply in the input.
+ */
+@Getter
+public final class KycDecryptResult {
+    private final long index;
+    private final String transactionID;
+    private final KycIdentity identity;
+    private final Throwable error;
+
+    private KycDecryptResult(long index, String transactionID, KycIdentity identity, Throwable error) {
+        this.index = index;
+        this.transactionID = transactionID;
+        this.identity = identity;
+        this.error = error;
+    }
+
+    static KycDecryptResult success(long index, KycIdentity identity) {
+        return new KycDecryptResult(index, identity.getTransactionID(), identity, null);
+    }
+
+    static KycDecryptResult failure(long index, String transactionID, Throwable error) {
+        return new KycDecryptResult(index, transactionID, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
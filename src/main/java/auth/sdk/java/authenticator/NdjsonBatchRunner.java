@@ -0,0 +1,454 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.IdaResponse;
+import auth.sdk.java.models.KycResponse;
+import auth.sdk.java.utils.Config;
+import auth.sdk.java.utils.Deadline;
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs one IDA call per line of an NDJSON file of user records through a {@link BatchAuthenticator}, writing one
+ * result line per record to an NDJSON output file.
+ * <p>
+ * The input is read sequentially and only as fast as slots free up, so files of any size stream through a bounded
+ * amount of memory. Parsing a record, validating it and building the request happen in the {@link RecordCall} on
+ * the task's virtual thread, as does serializing its result line, so the calling thread only copies finished lines
+ * to the output. Each output line carries the byte offset of its input line:
+ * <ul>
+ *   <li>{@code {"offset":0,"result":{...}}} with the complete IDA reply, plus {@code "identity":{...}} for a KYC
+ *   reply without errors, decrypted;</li>
+ *   <li>{@code {"offset":0,"error":"..."}} for a record that could not be parsed, validated or sent.</li>
+ * </ul>
+ * A record that fails never stops the run.
+ * </p>
+ * <p>
+ * Every {@code checkpointInterval} results, and at the end, the output is forced to disk and a checkpoint file next
+ * to it records the input offset below which every record has its result in the output, together with the output
+ * length at that moment. The checkpoint also records the input's absolute path, size and modification time, and a
+ * run only resumes from a checkpoint whose input matches; otherwise it fails rather than read a different file from
+ * an old offset. A run that resumes cuts the output back to the recorded length and reads the input from the
+ * recorded offset. In input order no record is repeated. In completion order, records beyond the offset that had
+ * already finished are sent and written again, and their offset identifies the duplicates. A run that completes
+ * deletes its checkpoint, so the next run with the same output starts over.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class NdjsonBatchRunner {
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonBatchRunner.class);
+    private static final byte NEWLINE = '\n';
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final BatchAuthenticator batch;
+    private final boolean inputOrder;
+    private final int checkpointInterval;
+
+    public NdjsonBatchRunner(BatchAuthenticator batch, Config.Batch config) {
+        this(batch, !"completion".equalsIgnoreCase(config.getOutput_order()), config.getCheckpoint_interval());
+    }
+
+    /**
+     * @param inputOrder         {@code true} to write results in input order, {@code false} as they complete
+     * @param checkpointInterval results between two checkpoints
+     */
+    public NdjsonBatchRunner(BatchAuthenticator batch, boolean inputOrder, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("checkpointInterval must be positive");
+        }
+        this.batch = batch;
+        this.inputOrder = inputOrder;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * The checkpoint file kept for {@code output}.
+     */
+    public static Path checkpointFor(Path output) {
+        return output.resolveSibling(output.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * Runs {@code call} for every record of {@code input} not yet covered by the checkpoint of {@code output}, and
+     * appends the results to {@code output}; without a checkpoint, {@code output} is replaced. Blocks until every
+     * record has its result line.
+     *
+     * @return totals for the records run by this call, not counting those covered by an earlier run
+     * @throws InterruptedException if the calling thread is interrupted; the last checkpoint stays valid
+     */
+    public BatchSummary run(Path input, Path output, RecordCall call) throws IOException, InterruptedException {
+        Path checkpointFile = checkpointFor(output);
+        InputFile inputFile = InputFile.of(input);
+        Checkpoint resumeFrom = Files.exists(checkpointFile) ? Checkpoint.read(checkpointFile) : new Checkpoint(inputFile, 0, 0);
+        if (!resumeFrom.input.equals(inputFile)) {
+            throw new IOException("Checkpoint " + checkpointFile + " was written for " + resumeFrom.input + ", not " + inputFile
+                    + "; delete it to start over");
+        }
+
+        try (FileChannel inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel outputChannel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (inputChannel.size() < resumeFrom.inputOffset) {
+                throw new IOException("Input " + input + " is shorter than its checkpoint offset (" + inputChannel.size()
+                        + " < " + resumeFrom.inputOffset + " bytes); delete " + checkpointFile + " to start over");
+            }
+            if (outputChannel.size() < resumeFrom.outputLength) {
+                throw new IOException("Output " + output + " is shorter than its checkpoint says (" + outputChannel.size()
+                        + " < " + resumeFrom.outputLength + " bytes); delete " + checkpointFile + " to start over");
+            }
+            outputChannel.truncate(resumeFrom.outputLength);
+            outputChannel.position(resumeFrom.outputLength);
+            inputChannel.position(resumeFrom.inputOffset);
+            if (resumeFrom.inputOffset > 0) {
+                logger.info("Resuming {} at offset {} of {} bytes.", input, resumeFrom.inputOffset, inputChannel.size());
+            }
+
+            Run run = new Run(Channels.newInputStream(inputChannel), inputFile, resumeFrom, call, outputChannel, checkpointFile);
+            BatchSummary summary;
+            try {
+                summary = inputOrder ? batch.executeInOrder(run, run::write) : batch.execute(run, run::write);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            run.checkpoint();
+            // Complete: a later run with this output must not resume into whatever input it is given
+            Files.delete(checkpointFile);
+            return summary;
+        }
+    }
+
+    /**
+     * Sends the request for one input record.
+     */
+    @FunctionalInterface
+    public interface RecordCall {
+        /**
+         * @param record the input line parsed as a JSON object
+         * @throws IllegalArgumentException if the record is not valid; reported on its result line
+         */
+        IdaResponse execute(Map<String, Object> record, Authenticator authenticator, Deadline deadline) throws Exception;
+    }
+
+    /**
+     * State of one {@link #run}: the task source read by the batch's feeder thread, and the sink on the calling
+     * thread.
+     */
+    private final class Run implements Iterable<BatchTask<IdaResponse>> {
+        private final LineReader reader;
+        private final RecordCall call;
+        private final FileChannel outputChannel;
+        private final OutputStream out;
+        private final InputFile inputFile;
+        private final Path checkpointFile;
+        // Lines handed to the batch whose result is not written yet, by input offset
+        private final ConcurrentNavigableMap<Long, InputLine> pending = new ConcurrentSkipListMap<>();
+        // Input offset up to which every line has been handed to the batch
+        private final AtomicLong readOffset;
+        private long sinceCheckpoint;
+
+        private Run(InputStream input, InputFile inputFile, Checkpoint resumeFrom, RecordCall call, FileChannel outputChannel,
+                    Path checkpointFile) {
+            this.reader = new LineReader(input, resumeFrom.inputOffset);
+            this.call = call;
+            this.outputChannel = outputChannel;
+            this.out = new BufferedOutputStream(Channels.newOutputStream(outputChannel), IO_BUFFER_SIZE);
+            this.inputFile = inputFile;
+            this.checkpointFile = checkpointFile;
+            this.readOffset = new AtomicLong(resumeFrom.inputOffset);
+        }
+
+        @Override
+        public Iterator<BatchTask<IdaResponse>> iterator() {
+            return new Iterator<>() {
+                private InputLine next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        try {
+                            next = reader.readLine();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        if (next == null) {
+                            readOffset.set(reader.offset);
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public BatchTask<IdaResponse> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    InputLine line = next;
+                    next = null;
+                    // Pending before the read offset moves past it, so a checkpoint never skips the line
+                    pending.put(line.offset, line);
+                    readOffset.set(line.nextOffset);
+                    return BatchTask.of(Long.toString(line.offset), (authenticator, deadline) -> {
+                        IdaResponse response = call.execute(JsonCodecs.mapReader().readValue(line.bytes), authenticator, deadline);
+                        line.result = resultLine(line.offset, response, authenticator);
+                        return response;
+                    });
+                }
+            };
+        }
+
+        private void write(BatchResult<?> result) {
+            InputLine line = pending.get(Long.parseLong(result.getTaskId()));
+            try {
+                out.write(result.isSuccess() ? line.result : errorLine(line.offset, result.getError()));
+                pending.remove(line.offset);
+                if (++sinceCheckpoint >= checkpointInterval) {
+                    checkpoint();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void checkpoint() throws IOException {
+            out.flush();
+            outputChannel.force(false);
+            long read = readOffset.get();
+            Map.Entry<Long, InputLine> first = pending.firstEntry();
+            long inputOffset = first == null ? read : Math.min(first.getKey(), read);
+            new Checkpoint(inputFile, inputOffset, outputChannel.position()).write(checkpointFile);
+            sinceCheckpoint = 0;
+        }
+    }
+
+    private static byte[] resultLine(long offset, IdaResponse response, Authenticator authenticator) throws Exception {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(1024);
+        try (JsonGenerator generator = JsonCodecs.factory().createGenerator(line, JsonEncoding.UTF8);
+             JsonParser reply = JsonCodecs.factory().createParser(new ByteBufferBackedInputStream(response.getRawBody()))) {
+            generator.writeStartObject();
+            generator.writeNumberField("offset", offset);
+            generator.writeFieldName("result");
+            reply.nextToken();
+            generator.copyCurrentStructure(reply);
+            if (response instanceof KycResponse && !response.hasErrors() && response.getIdentity() != null) {
+                generator.writeFieldName("identity");
+                authenticator.decryptIdentity((KycResponse) response).writeJson(generator);
+            }
+            generator.writeEndObject();
+        }
+        line.write(NEWLINE);
+        return line.toByteArray();
+    }
+
+    private static byte[] errorLine(long offset, Throwable error) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = JsonCodecs.factory().createGenerator(line, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("offset", offset);
+            generator.writeStringField("error", String.valueOf(error.getMessage()));
+            generator.writeEndObject();
+        }
+        line.write(NEWLINE);
+        return line.toByteArray();
+    }
+
+    /**
+     * One non-blank input line, from {@code offset} up to {@code nextOffset} (past its newline).
+     */
+    private static final class InputLine {
+        private final long offset;
+        private final long nextOffset;
+        private final byte[] bytes;
+        // Written by the task before its result is queued, read by the sink after taking it
+        private byte[] result;
+
+        private InputLine(long offset, long nextOffset, byte[] bytes) {
+            this.offset = offset;
+            this.nextOffset = nextOffset;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Splits a byte stream into lines, tracking the byte offset of each.
+     */
+    private static final class LineReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[IO_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long offset;
+
+        private LineReader(InputStream in, long offset) {
+            this.in = in;
+            this.offset = offset;
+        }
+
+        /**
+         * The next line that is not blank, without its line terminator, or {@code null} at the end of the input.
+         */
+        private InputLine readLine() throws IOException {
+            while (true) {
+                long start = offset;
+                byte[] line = new byte[0];
+                int length = 0;
+                boolean terminated = false;
+                while (!terminated) {
+                    if (position == limit) {
+                        limit = in.read(buffer);
+                        position = 0;
+                        if (limit <= 0) {
+                            limit = 0;
+                            break;
+                        }
+                    }
+                    int end = position;
+                    while (end < limit && buffer[end] != NEWLINE) {
+                        end++;
+                    }
+                    int n = end - position;
+                    if (length + n > line.length) {
+                        line = Arrays.copyOf(line, Math.max(length + n, line.length * 2));
+                    }
+                    System.arraycopy(buffer, position, line, length, n);
+                    length += n;
+                    offset += n;
+                    position = end;
+                    if (end < limit) {
+                        terminated = true;
+                        position++;
+                        offset++;
+                    }
+                }
+                if (!terminated && length == 0) {
+                    return null;
+                }
+                if (!isBlank(line, length)) {
+                    return new InputLine(start, offset, length == line.length ? line : Arrays.copyOf(line, length));
+                }
+            }
+        }
+
+        private static boolean isBlank(byte[] line, int length) {
+            for (int i = 0; i < length; i++) {
+                byte b = line[i];
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Identity of an input file as far as resuming is concerned: its absolute path, size and modification time.
+     */
+    private static final class InputFile {
+        private final String path;
+        private final long size;
+        private final long modified;
+
+        private InputFile(String path, long size, long modified) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+        }
+
+        private static InputFile of(Path input) throws IOException {
+            Path absolute = input.toAbsolutePath().normalize();
+            BasicFileAttributes attributes = Files.readAttributes(absolute, BasicFileAttributes.class);
+            return new InputFile(absolute.toString(), attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof InputFile)) {
+                return false;
+            }
+            InputFile other = (InputFile) o;
+            return path.equals(other.path) && size == other.size && modified == other.modified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, modified);
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + size + " bytes, modified " + Instant.ofEpochMilli(modified) + ")";
+        }
+    }
+
+    /**
+     * Where a run over {@code input} can resume: every input line below {@code inputOffset} has its result in the
+     * first {@code outputLength} bytes of the output.
+     */
+    private static final class Checkpoint {
+        private final InputFile input;
+        private final long inputOffset;
+        private final long outputLength;
+
+        private Checkpoint(InputFile input, long inputOffset, long outputLength) {
+            this.input = input;
+            this.inputOffset = inputOffset;
+            this.outputLength = outputLength;
+        }
+
+        private static Checkpoint read(Path file) throws IOException {
+            JsonNode node = JsonCodecs.treeReader().readTree(Files.readAllBytes(file));
+            if (!node.path("inputOffset").canConvertToLong() || !node.path("outputLength").canConvertToLong()
+                    || !node.path("inputPath").isTextual() || !node.path("inputSize").canConvertToLong()
+                    || !node.path("inputModified").canConvertToLong()) {
+                throw new IOException("Not a batch checkpoint: " + file + "; delete it to start over");
+            }
+            InputFile input = new InputFile(node.path("inputPath").asText(), node.path("inputSize").asLong(),
+                    node.path("inputModified").asLong());
+            return new Checkpoint(input, node.path("inputOffset").asLong(), node.path("outputLength").asLong());
+        }
+
+        // Replaced atomically, so a crash leaves either the previous checkpoint or this one
+        private void write(Path file) throws IOException {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp);
+                 JsonGenerator generator = JsonCodecs.factory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeStringField("inputPath", input.path);
+                generator.writeNumberField("inputSize", input.size);
+                generator.writeNumberField("inputModified", input.modified);
+                generator.writeNumberField("inputOffset", inputOffset);
+                generator.writeNumberField("outputLength", outputLength);
+                generator.writeEndObject();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
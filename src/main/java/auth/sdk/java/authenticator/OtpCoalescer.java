@@ -0,0 +1,144 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.OtpResponse;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional single-flight layer in front of {@link Authenticator#genOtp}.
+ * <p>
+ * Concurrent OTP requests for the same individual ID, ID type and channel set share one signed IDA round trip,
+ * and for {@code window} after it completes further requests receive the same reply instead of triggering
+ * another OTP. This absorbs double taps on "send OTP" without a second message reaching the user.
+ * </p>
+ * <p>
+ * Coalesced callers receive the leader's {@link OtpResponse}; the OTP must then be verified with the
+ * {@code transactionID} from that response rather than the one the caller passed in. Failed calls are shared
+ * with callers already waiting on them but are never cached for the window.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class OtpCoalescer {
+    private final Authenticator authenticator;
+    private final long windowNanos;
+    private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public OtpCoalescer(Authenticator authenticator, Duration window) {
+        this.authenticator = authenticator;
+        this.windowNanos = window.toNanos();
+    }
+
+    public OtpResponse genOtp(String individualId, String individualIdType, String txnId, boolean email, boolean phone) throws Exception {
+        try {
+            return genOtpAsync(individualId, individualIdType, txnId, email, phone).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<OtpResponse> genOtpAsync(String individualId, String individualIdType, String txnId, boolean email, boolean phone) {
+        requests.increment();
+        Key key = new Key(individualId, individualIdType, email, phone);
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing != null && !existing.isExpired()) {
+                coalesced.increment();
+                return existing.future.copy();
+            }
+
+            Flight flight = new Flight();
+            boolean leader = existing == null
+                    ? flights.putIfAbsent(key, flight) == null
+                    : flights.replace(key, existing, flight);
+            if (leader) {
+                authenticator.genOtpAsync(individualId, individualIdType, txnId, email, phone)
+                        .whenComplete((response, error) -> {
+                            flight.completedAt = System.nanoTime();
+                            if (error != null) {
+                                flights.remove(key, flight);
+                                flight.future.completeExceptionally(error);
+                            } else {
+                                CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS)
+                                        .execute(() -> flights.remove(key, flight));
+                                flight.future.complete(response);
+                            }
+                        });
+                return flight.future.copy();
+            }
+        }
+    }
+
+    /**
+     * Total number of OTP requests received by this layer.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Number of requests that were answered by an already running or recently completed call.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Number of requests that actually reached IDA.
+     */
+    public long getForwardedCount() {
+        return requests.sum() - coalesced.sum();
+    }
+
+    private final class Flight {
+        private final CompletableFuture<OtpResponse> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private boolean isExpired() {
+            return future.isDone() && (future.isCompletedExceptionally() || System.nanoTime() - completedAt > windowNanos);
+        }
+    }
+
+    private static final class Key {
+        private final String individualId;
+        private final String individualIdType;
+        private final boolean email;
+        private final boolean phone;
+
+        private Key(String individualId, String individualIdType, boolean email, boolean phone) {
+            this.individualId = individualId;
+            this.individualIdType = individualIdType;
+            this.email = email;
+            this.phone = phone;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return email == other.email && phone == other.phone
+                    && Objects.equals(individualId, other.individualId)
+                    && Objects.equals(individualIdType, other.individualIdType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(individualId, individualIdType, email, phone);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.MOSIPAuthRequest;
+import auth.sdk.java.models.MOSIPOtpRequest;
+import auth.sdk.java.models.MOSIPRequestedAuth;
+import auth.sdk.java.utils.JsonCodecs;
+import auth.sdk.java.utils.SegmentedBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the outer auth/KYC and OTP request JSON without reflection or a generator.
+ * <p>
+ * The envelopes have a fixed schema, so every field name, together with its quotes, colon and leading comma, is a
+ * precomputed byte array, and only the values are encoded per request. Each envelope is written in two passes over
+ * the same code: the first only counts bytes, the second fills an array of exactly that size, so the result is the
+ * only allocation. String values are escaped the way Jackson escapes them, and the output is byte-for-byte the
+ * Jackson serialization of {@link MOSIPAuthRequest} and {@link MOSIPOtpRequest}.
+ * </p>
+ * <p>
+ * With a pooled body the already Base64URL encoded {@code request} value is copied segment by segment from its
+ * {@link SegmentedBuffer} between a precomputed head and tail, so it is never materialised as a {@code String}.
+ * Base64URL needs no escaping.
+ * </p>
+ */
+final class RequestEnvelopeWriter {
+    private static final byte[] ID = field('{', "id");
+    private static final byte[] VERSION = field(',', "version");
+    private static final byte[] INDIVIDUAL_ID = field(',', "individualId");
+    private static final byte[] INDIVIDUAL_ID_TYPE = field(',', "individualIdType");
+    private static final byte[] TRANSACTION_ID = field(',', "transactionID");
+    private static final byte[] REQUEST_TIME = field(',', "requestTime");
+    private static final byte[] SPEC_VERSION = field(',', "specVersion");
+    private static final byte[] THUMBPRINT = field(',', "thumbprint");
+    private static final byte[] DOMAIN_URI = field(',', "domainUri");
+    private static final byte[] ENV = field(',', "env");
+    private static final byte[] REQUESTED_AUTH = field(',', "requestedAuth");
+    private static final byte[] DEMO = field('{', "demo");
+    private static final byte[] PIN = field(',', "pin");
+    private static final byte[] OTP = field(',', "otp");
+    private static final byte[] BIO = field(',', "bio");
+    private static final byte[] CONSENT_OBTAINED = field(',', "consentObtained");
+    private static final byte[] REQUEST_HMAC = field(',', "requestHMAC");
+    private static final byte[] REQUEST_SESSION_KEY = field(',', "requestSessionKey");
+    private static final byte[] REQUEST = field(',', "request");
+    private static final byte[] OTP_CHANNEL = field(',', "otpChannel");
+    private static final byte[] METADATA = field(',', "metadata");
+
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] EMPTY_OBJECT = ascii("{}");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private byte[] out;
+    private int pos;
+    /** Strings found to be plain ASCII by the counting pass, by position in the envelope (first 64). */
+    private long plainStrings;
+    private int stringIndex;
+
+    private RequestEnvelopeWriter() {
+    }
+
+    /**
+     * The envelope with the {@code request} field taken from {@link MOSIPAuthRequest#getRequest()}.
+     */
+    static byte[] toBytes(MOSIPAuthRequest envelope) throws JsonProcessingException {
+        byte[] metadata = metadata(envelope.getMetadata());
+        RequestEnvelopeWriter writer = new RequestEnvelopeWriter();
+        writer.authHead(envelope);
+        writer.string(envelope.getRequest());
+        writer.authTail(metadata);
+        writer.out = new byte[writer.pos];
+        writer.pos = 0;
+        writer.stringIndex = 0;
+        writer.authHead(envelope);
+        writer.string(envelope.getRequest());
+        writer.authTail(metadata);
+        return writer.out;
+    }
+
+    /**
+     * The envelope with the {@code request} field copied from {@code encodedRequest}, written into {@code body}.
+     */
+    static void write(MOSIPAuthRequest envelope, SegmentedBuffer encodedRequest, SegmentedBuffer body) throws JsonProcessingException {
+        byte[] metadata = metadata(envelope.getMetadata());
+        RequestEnvelopeWriter writer = new RequestEnvelopeWriter();
+        writer.authHead(envelope);
+        writer.raw((byte) '"');
+        int headLength = writer.pos;
+        writer.raw((byte) '"');
+        writer.authTail(metadata);
+        writer.out = new byte[writer.pos];
+        writer.pos = 0;
+        writer.stringIndex = 0;
+        writer.authHead(envelope);
+        writer.raw((byte) '"');
+        writer.raw((byte) '"');
+        writer.authTail(metadata);
+
+        body.write(writer.out, 0, headLength);
+        for (ByteBuffer segment : encodedRequest.segments()) {
+            body.write(segment);
+        }
+        body.write(writer.out, headLength, writer.out.length - headLength);
+    }
+
+    static byte[] toBytes(MOSIPOtpRequest request) throws JsonProcessingException {
+        byte[] metadata = metadata(request.getMetadata());
+        RequestEnvelopeWriter writer = new RequestEnvelopeWriter();
+        writer.otp(request, metadata);
+        writer.out = new byte[writer.pos];
+        writer.pos = 0;
+        writer.stringIndex = 0;
+        writer.otp(request, metadata);
+        return writer.out;
+    }
+
+    private void authHead(MOSIPAuthRequest envelope) {
+        raw(ID);
+        string(envelope.getId());
+        raw(VERSION);
+        string(envelope.getVersion());
+        raw(INDIVIDUAL_ID);
+        string(envelope.getIndividualId());
+        raw(INDIVIDUAL_ID_TYPE);
+        string(envelope.getIndividualIdType());
+        raw(TRANSACTION_ID);
+        string(envelope.getTransactionID());
+        raw(REQUEST_TIME);
+        string(envelope.getRequestTime());
+        raw(SPEC_VERSION);
+        string(envelope.getSpecVersion());
+        raw(THUMBPRINT);
+        string(envelope.getThumbprint());
+        raw(DOMAIN_URI);
+        string(envelope.getDomainUri());
+        raw(ENV);
+        string(envelope.getEnv());
+        raw(REQUESTED_AUTH);
+        MOSIPRequestedAuth requestedAuth = envelope.getRequestedAuth();
+        if (requestedAuth == null) {
+            raw(NULL);
+        } else {
+            raw(DEMO);
+            bool(requestedAuth.isDemo());
+            raw(PIN);
+            bool(requestedAuth.isPin());
+            raw(OTP);
+            bool(requestedAuth.isOtp());
+            raw(BIO);
+            bool(requestedAuth.isBio());
+            raw((byte) '}');
+        }
+        raw(CONSENT_OBTAINED);
+        bool(envelope.isConsentObtained());
+        raw(REQUEST_HMAC);
+        string(envelope.getRequestHMAC());
+        raw(REQUEST_SESSION_KEY);
+        string(envelope.getRequestSessionKey());
+        raw(REQUEST);
+    }
+
+    private void authTail(byte[] metadata) {
+        raw(METADATA);
+        raw(metadata);
+        raw((byte) '}');
+    }
+
+    private void otp(MOSIPOtpRequest request, byte[] metadata) {
+        raw(ID);
+        string(request.getId());
+        raw(VERSION);
+        string(request.getVersion());
+        raw(INDIVIDUAL_ID);
+        string(request.getIndividualId());
+        raw(INDIVIDUAL_ID_TYPE);
+        string(request.getIndividualIdType());
+        raw(TRANSACTION_ID);
+        string(request.getTransactionID());
+        raw(REQUEST_TIME);
+        string(request.getRequestTime());
+        raw(OTP_CHANNEL);
+        List<String> channels = request.getOtpChannel();
+        if (channels == null) {
+            raw(NULL);
+        } else {
+            raw((byte) '[');
+            for (int i = 0; i < channels.size(); i++) {
+                if (i > 0) {
+                    raw((byte) ',');
+                }
+                string(channels.get(i));
+            }
+            raw((byte) ']');
+        }
+        raw(METADATA);
+        raw(metadata);
+        raw((byte) '}');
+    }
+
+    /**
+     * Metadata is free-form, so anything but the usual empty map goes through Jackson, once per envelope.
+     */
+    private static byte[] metadata(Map<String, Object> metadata) throws JsonProcessingException {
+        if (metadata == null) {
+            return NULL;
+        }
+        if (metadata.isEmpty()) {
+            return EMPTY_OBJECT;
+        }
+        return JsonCodecs.writer(Map.class).writeValueAsBytes(metadata);
+    }
+
+    private void string(String value) {
+        if (value == null) {
+            raw(NULL);
+            return;
+        }
+        raw((byte) '"');
+        int length = value.length();
+        int index = stringIndex++;
+        boolean indexed = index < Long.SIZE;
+        // Identifiers, timestamps and Base64 values are plain ASCII: counted in a tight loop, then bulk copied
+        int i = 0;
+        if (out == null) {
+            while (i < length && isPlain(value.charAt(i))) {
+                i++;
+            }
+            pos += i;
+            if (i == length && indexed) {
+                plainStrings |= 1L << index;
+            }
+        } else if (indexed && (plainStrings & (1L << index)) != 0) {
+            copyAscii(value, out, pos);
+            pos += length;
+            i = length;
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (isPlain(c)) {
+                raw((byte) c);
+            } else if (c < 0x80) {
+                escape(c);
+            } else if (c < 0x800) {
+                raw((byte) (0xC0 | (c >> 6)));
+                raw((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // Jackson writes each surrogate as its own escape rather than combining pairs into 4-byte UTF-8
+                unicodeEscape(c);
+            } else {
+                raw((byte) (0xE0 | (c >> 12)));
+                raw((byte) (0x80 | ((c >> 6) & 0x3F)));
+                raw((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        raw((byte) '"');
+    }
+
+    /**
+     * Copies a string known to be ASCII. The deprecated {@code getBytes} overload drops the high byte of each char,
+     * which is exactly right here, and for compact strings is a plain array copy.
+     */
+    @SuppressWarnings("deprecation")
+    private static void copyAscii(String value, byte[] target, int offset) {
+        value.getBytes(0, value.length(), target, offset);
+    }
+
+    private static boolean isPlain(char c) {
+        return c >= 0x20 && c < 0x80 && c != '"' && c != '\\';
+    }
+
+    private void escape(char c) {
+        byte shortEscape;
+        switch (c) {
+            case '"':
+            case '\\':
+                shortEscape = (byte) c;
+                break;
+            case '\b':
+                shortEscape = 'b';
+                break;
+            case '\t':
+                shortEscape = 't';
+                break;
+            case '\n':
+                shortEscape = 'n';
+                break;
+            case '\f':
+                shortEscape = 'f';
+                break;
+            case '\r':
+                shortEscape = 'r';
+                break;
+            default:
+                unicodeEscape(c);
+                return;
+        }
+        raw((byte) '\\');
+        raw(shortEscape);
+    }
+
+    private void unicodeEscape(char c) {
+        raw((byte) '\\');
+        raw((byte) 'u');
+        raw(HEX[c >> 12]);
+        raw(HEX[(c >> 8) & 0xF]);
+        raw(HEX[(c >> 4) & 0xF]);
+        raw(HEX[c & 0xF]);
+    }
+
+    private void bool(boolean value) {
+        raw(value ? TRUE : FALSE);
+    }
+
+    private void raw(byte b) {
+        if (out != null) {
+            out[pos] = b;
+        }
+        pos++;
+    }
+
+    private void raw(byte[] bytes) {
+        raw(bytes, 0, bytes.length);
+    }
+
+    private void raw(byte[] bytes, int offset, int length) {
+        if (out != null) {
+            System.arraycopy(bytes, offset, out, pos, length);
+        }
+        pos += length;
+    }
+
+    private static byte[] field(char before, String name) {
+        return ascii(before + "\"" + name + "\":");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,95 @@
+package auth.sdk.java.authenticator;
+
+import auth.sdk.java.models.MOSIPAuthRequest;
+import auth.sdk.java.models.MOSIPOtpRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything about a request to one IDA controller ({@code auth}, {@code kyc} or {@code otp}) that depends only on
+ * the configuration: the URL-encoded path, the envelope fields that never change and the compiled timestamp format.
+ * <p>
+ * {@link Authenticator} builds one per controller when it is constructed, so a request only fills in its own fields:
+ * the individual, the transaction ID, the request time, the thumbprint of the current key set and, for auth and KYC,
+ * the encrypted request. Templates are immutable and shared by all threads.
+ * </p>
+ */
+final class RequestTemplate {
+    private final String pathParams;
+    private final String id;
+    private final String version;
+    private final String domainUri;
+    private final String env;
+    private final DateTimeFormatter timestampFormatter;
+
+    RequestTemplate(String controller, String id, String version, String domainUri, String env, String timestampFormat,
+                    String partnerMispLk, String partnerId, String partnerApikey) {
+        this.pathParams = String.join("/",
+                URLEncoder.encode(controller, StandardCharsets.UTF_8),
+                URLEncoder.encode(partnerMispLk, StandardCharsets.UTF_8),
+                URLEncoder.encode(partnerId, StandardCharsets.UTF_8),
+                URLEncoder.encode(partnerApikey, StandardCharsets.UTF_8)
+        );
+        this.id = id;
+        this.version = version;
+        this.domainUri = domainUri;
+        this.env = env;
+        this.timestampFormatter = DateTimeFormatter.ofPattern(timestampFormat).withZone(ZoneOffset.UTC);
+    }
+
+    /**
+     * The path below the IDA base URL, {@code controller/mispLicenseKey/partnerId/apiKey}, each part URL-encoded.
+     */
+    String getPathParams() {
+        return pathParams;
+    }
+
+    /**
+     * An auth or KYC envelope for now, with the encrypted fields still empty.
+     */
+    MOSIPAuthRequest newAuthRequest(String individualId, String individualIdType, String transactionId, String thumbprint) {
+        MOSIPAuthRequest authRequest = new MOSIPAuthRequest();
+        authRequest.setId(id);
+        authRequest.setVersion(version);
+        authRequest.setIndividualId(individualId);
+        authRequest.setIndividualIdType(individualIdType);
+        authRequest.setTransactionID(transactionId);
+        authRequest.setRequestTime(requestTime());
+        authRequest.setSpecVersion(version);
+        authRequest.setThumbprint(thumbprint);
+        authRequest.setDomainUri(domainUri);
+        authRequest.setEnv(env);
+        authRequest.setRequest("");
+        authRequest.setConsentObtained(true);
+        authRequest.setRequestHMAC("");
+        authRequest.setRequestSessionKey("");
+        authRequest.setMetadata(Collections.emptyMap());
+        return authRequest;
+    }
+
+    /**
+     * An OTP request for now, to be sent over {@code channels}.
+     */
+    MOSIPOtpRequest newOtpRequest(String individualId, String individualIdType, String transactionId, List<String> channels) {
+        MOSIPOtpRequest otpRequest = new MOSIPOtpRequest();
+        otpRequest.setId(id);
+        otpRequest.setVersion(version);
+        otpRequest.setIndividualId(individualId);
+        otpRequest.setIndividualIdType(individualIdType);
+        otpRequest.setTransactionID(transactionId);
+        otpRequest.setRequestTime(requestTime());
+        otpRequest.setOtpChannel(channels);
+        otpRequest.setMetadata(Collections.emptyMap());
+        return otpRequest;
+    }
+
+    private String requestTime() {
+        return timestampFormatter.format(Instant.now());
+    }
+}
@@ -6,7 +6,12 @@ public enum Errors {
     AUT_CRY_003("Error Encrypting Auth Data."),
     AUT_CRY_004("Error Signing Auth Request Data."),
     AUT_CRY_005("Controller Method Not Found For Method %s. Supported Methods are %s"),
+    AUT_CRY_006("Error Loading JCA Provider %s provided in config file."),
+    AUT_CRY_007("Error Reading Key %s from the %s key store of provider %s."),
+    AUT_CRY_008("Response Signature Verification Failed. %s"),
     AUT_BAS_001("Not Able to process auth request."),
+    AUT_TMO_001("Deadline exceeded before the %s stage of the request."),
+    AUT_NET_001("Circuit breaker is open for endpoint %s. Failing fast until IDA recovers."),
     AUT_OTP_001("No channels found. Please Pass otp=True or phone=True");
 
     private final String message;
@@ -0,0 +1,432 @@
+package auth.sdk.java.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.MGF1ParameterSpec;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for the IDA authentication service, for offline load and latency testing.
+ * <p>
+ * The mock serves {@code POST /auth/{misp}/{partner}/{apikey}}, {@code /kyc/...} and {@code /otp/...} on an embedded
+ * HTTP server. Like the real service it:
+ * <ul>
+ *   <li>verifies the detached JWS {@code Signature} header against the raw body using the {@code x5c} certificate,</li>
+ *   <li>checks the request {@code thumbprint}, unwraps {@code requestSessionKey} with its own private key, decrypts
+ *   {@code request} and checks it against {@code requestHMAC},</li>
+ *   <li>answers KYC with an identity encrypted under a fresh AES key wrapped for the caller's certificate, so
+ *   {@link auth.sdk.java.authenticator.Authenticator#decryptResponse} works unchanged,</li>
+ *   <li>signs every reply with a detached JWS under its own certificate, so response verification can be pointed
+ *   at {@link #writeCertificatePem(Path)}.</li>
+ * </ul>
+ * Latency, failure rates and throttling are controlled through {@link MockIdaSettings}.
+ * </p>
+ * <p>
+ * <b>Usage:</b> start the server, point {@code mosip_auth_server.ida_auth_url} at {@link #getBaseUrl()} and
+ * {@code crypto_encrypt.encrypt_cert_path} at a file written by {@link #writeCertificatePem(Path)}.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class MockIdaServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MockIdaServer.class);
+    private static final String RSA_ALGO = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+    private static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec(
+            "SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+    private static final int GCM_IV_SIZE = 16;
+    private static final int GCM_TAG_BITS = 128;
+    private static final DateTimeFormatter RESPONSE_TIME = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneOffset.UTC);
+
+    private final MockIdaSettings settings;
+    private final PrivateKey privateKey;
+    private final X509Certificate certificate;
+    private final String thumbprint;
+    private final byte[] responseSigningInputPrefix;
+    private final String responseHeaderB64;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SecureRandom random = new SecureRandom();
+    private final Semaphore concurrency;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    private final Object rateLock = new Object();
+    private long rateWindowStart;
+    private long rateWindowCount;
+
+    public MockIdaServer(MockIdaSettings settings) throws Exception {
+        this.settings = settings;
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (FileInputStream fis = new FileInputStream(settings.getP12FilePath())) {
+            keyStore.load(fis, settings.getP12FilePassword().toCharArray());
+        }
+        String alias = keyStore.aliases().nextElement();
+        this.privateKey = (PrivateKey) keyStore.getKey(alias, settings.getP12FilePassword().toCharArray());
+        this.certificate = (X509Certificate) keyStore.getCertificate(alias);
+        this.thumbprint = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+        ObjectNode responseHeader = mapper.createObjectNode();
+        responseHeader.put("alg", "RS256");
+        responseHeader.putArray("x5c").add(Base64.getEncoder().encodeToString(certificate.getEncoded()));
+        this.responseHeaderB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(responseHeader));
+        this.responseSigningInputPrefix = (responseHeaderB64 + ".").getBytes(StandardCharsets.US_ASCII);
+
+        this.concurrency = settings.getMaxConcurrentRequests() > 0 ? new Semaphore(settings.getMaxConcurrentRequests()) : null;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(settings.getHost(), settings.getPort()), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Mock IDA listening on {}", getBaseUrl());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public String getBaseUrl() {
+        return "http://" + settings.getHost() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public X509Certificate getCertificate() {
+        return certificate;
+    }
+
+    /**
+     * Writes the mock's encryption certificate as PEM, for use as {@code crypto_encrypt.encrypt_cert_path}.
+     */
+    public void writeCertificatePem(Path path) throws Exception {
+        String pem = "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(certificate.getEncoded())
+                + "\n-----END CERTIFICATE-----\n";
+        Files.writeString(path, pem, StandardCharsets.US_ASCII);
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getSucceededCount() {
+        return succeeded.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.increment();
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, null);
+                return;
+            }
+            String[] path = exchange.getRequestURI().getPath().replaceFirst("^/+", "").split("/");
+            String controller = path[0];
+            if (path.length != 4 || !(controller.equals("auth") || controller.equals("kyc") || controller.equals("otp"))) {
+                send(exchange, 404, null);
+                return;
+            }
+            if (!admitRate() || (concurrency != null && !concurrency.tryAcquire())) {
+                throttled.increment();
+                send(exchange, 429, null);
+                return;
+            }
+            try {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                sleep(nextLatency());
+                if (roll(settings.getServerErrorRate())) {
+                    injectedErrors.increment();
+                    send(exchange, 500, null);
+                    return;
+                }
+                byte[] reply = process(controller, body, exchange.getRequestHeaders().getFirst("Signature"));
+                if (settings.isSignResponses()) {
+                    exchange.getResponseHeaders().add(settings.getResponseSignatureHeader(), signResponse(reply));
+                }
+                send(exchange, 200, reply);
+            } finally {
+                if (concurrency != null) {
+                    concurrency.release();
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Mock IDA failed to handle request: {}", e.getMessage(), e);
+        }
+    }
+
+    private byte[] process(String controller, byte[] body, String signatureHeader) throws Exception {
+        JsonNode request = mapper.readTree(body);
+        String transactionId = request.path("transactionID").asText(null);
+
+        X509Certificate partnerCert;
+        try {
+            partnerCert = verifySignature(signatureHeader, body);
+        } catch (Exception e) {
+            return reject(controller, transactionId, "IDA-MPA-005", "Signature verification failed: " + e.getMessage());
+        }
+
+        if (!controller.equals("otp")) {
+            if (!thumbprint.equals(request.path("thumbprint").asText())) {
+                return reject(controller, transactionId, "IDA-MPA-006", "Thumbprint does not match the IDA certificate");
+            }
+            try {
+                decryptAndCheck(request);
+            } catch (Exception e) {
+                return reject(controller, transactionId, "IDA-MPA-007", "Unable to decrypt request: " + e.getMessage());
+            }
+        }
+
+        ObjectNode reply = envelope(controller, transactionId);
+        if (roll(settings.getIdaErrorRate())) {
+            injectedErrors.increment();
+            addError(reply, "IDA-MLC-018", "Mock IDA injected error");
+            return mapper.writeValueAsBytes(reply);
+        }
+
+        ObjectNode response = reply.putObject("response");
+        switch (controller) {
+            case "auth":
+                response.put("authStatus", true);
+                response.put("authToken", "mock-" + Long.toHexString(random.nextLong()));
+                break;
+            case "kyc":
+                response.put("kycStatus", true);
+                response.put("authToken", "mock-" + Long.toHexString(random.nextLong()));
+                encryptIdentity(response, request.path("individualId").asText(), partnerCert.getPublicKey());
+                break;
+            default:
+                response.put("maskedMobile", "XXXXXX" + lastDigits(request.path("individualId").asText()));
+                response.put("maskedEmail", "XXXXX@mosip.net");
+        }
+        reply.putNull("errors");
+        succeeded.increment();
+        return mapper.writeValueAsBytes(reply);
+    }
+
+    private X509Certificate verifySignature(String jws, byte[] body) throws Exception {
+        if (jws == null) {
+            throw new IllegalArgumentException("missing Signature header");
+        }
+        String[] parts = jws.split("\\.", -1);
+        if (parts.length != 3 || !parts[1].isEmpty()) {
+            throw new IllegalArgumentException("Signature is not a detached JWS");
+        }
+        JsonNode header = mapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+        if (!"RS256".equals(header.path("alg").asText())) {
+            throw new IllegalArgumentException("unsupported alg " + header.path("alg").asText());
+        }
+        byte[] der = decodeLenient(header.path("x5c").path(0).asText());
+        X509Certificate cert = (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(der));
+        if (!settings.isVerifySignature()) {
+            return cert;
+        }
+        Signature verifier = Signature.getInstance("SHA256withRSA");
+        verifier.initVerify(cert.getPublicKey());
+        verifier.update(parts[0].getBytes(StandardCharsets.US_ASCII));
+        verifier.update((byte) '.');
+        verifier.update(Base64.getUrlEncoder().withoutPadding().encode(body));
+        if (!verifier.verify(Base64.getUrlDecoder().decode(parts[2]))) {
+            throw new IllegalArgumentException("signature does not match body");
+        }
+        return cert;
+    }
+
+    private String signResponse(byte[] reply) throws Exception {
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(privateKey);
+        signer.update(responseSigningInputPrefix);
+        signer.update(Base64.getUrlEncoder().withoutPadding().encode(reply));
+        return responseHeaderB64 + ".." + Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign());
+    }
+
+    private void decryptAndCheck(JsonNode request) throws Exception {
+        Cipher rsa = Cipher.getInstance(RSA_ALGO);
+        rsa.init(Cipher.DECRYPT_MODE, privateKey, OAEP_PARAMS);
+        byte[] aesKey = rsa.doFinal(Base64.getUrlDecoder().decode(request.path("requestSessionKey").asText()));
+
+        byte[] payload = gcmDecrypt(Base64.getUrlDecoder().decode(request.path("request").asText()), aesKey);
+        byte[] hmac = gcmDecrypt(Base64.getUrlDecoder().decode(request.path("requestHMAC").asText()), aesKey);
+
+        String expected = HexFormat.of().withUpperCase().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        if (!expected.equals(new String(hmac, StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException("requestHMAC does not match request");
+        }
+        mapper.readTree(payload);
+    }
+
+    private void encryptIdentity(ObjectNode response, String individualId, PublicKey partnerKey) throws Exception {
+        ObjectNode identity = mapper.createObjectNode();
+        identity.put("individual_id", individualId);
+        identity.putArray("name").addObject().put("language", "eng").put("value", "MOCK_FULLNAME");
+        identity.put("dob", "1992/04/15");
+        identity.putArray("gender").addObject().put("language", "eng").put("value", "MLE");
+
+        byte[] aesKey = new byte[32];
+        random.nextBytes(aesKey);
+        byte[] iv = new byte[GCM_IV_SIZE];
+        random.nextBytes(iv);
+        Cipher aes = Cipher.getInstance("AES/GCM/NoPadding");
+        aes.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(aesKey, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] cipherText = aes.doFinal(mapper.writeValueAsBytes(identity));
+        byte[] withIv = Arrays.copyOf(cipherText, cipherText.length + iv.length);
+        System.arraycopy(iv, 0, withIv, cipherText.length, iv.length);
+
+        Cipher rsa = Cipher.getInstance(RSA_ALGO);
+        rsa.init(Cipher.ENCRYPT_MODE, partnerKey, OAEP_PARAMS);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        response.put("identity", encoder.encodeToString(withIv));
+        response.put("sessionKey", encoder.encodeToString(rsa.doFinal(aesKey)));
+    }
+
+    private static byte[] gcmDecrypt(byte[] data, byte[] key) throws Exception {
+        Cipher aes = Cipher.getInstance("AES/GCM/NoPadding");
+        aes.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"),
+                new GCMParameterSpec(GCM_TAG_BITS, data, data.length - GCM_IV_SIZE, GCM_IV_SIZE));
+        return aes.doFinal(data, 0, data.length - GCM_IV_SIZE);
+    }
+
+    private byte[] reject(String controller, String transactionId, String code, String message) throws IOException {
+        rejected.increment();
+        logger.warn("Mock IDA rejected {} request {}: {}", controller, transactionId, message);
+        ObjectNode reply = envelope(controller, transactionId);
+        reply.putNull("response");
+        addError(reply, code, message);
+        return mapper.writeValueAsBytes(reply);
+    }
+
+    private ObjectNode envelope(String controller, String transactionId) {
+        ObjectNode reply = mapper.createObjectNode();
+        reply.put("id", "mosip.identity." + controller);
+        reply.put("version", "1.0");
+        reply.put("responseTime", RESPONSE_TIME.format(Instant.now()));
+        reply.put("transactionID", transactionId);
+        return reply;
+    }
+
+    private static void addError(ObjectNode reply, String code, String message) {
+        ArrayNode errors = reply.putArray("errors");
+        errors.addObject().put("errorCode", code).put("errorMessage", message).put("actionMessage", message);
+    }
+
+    private boolean admitRate() {
+        int limit = settings.getMaxRequestsPerSecond();
+        if (limit <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        synchronized (rateLock) {
+            if (now - rateWindowStart >= 1_000_000_000L) {
+                rateWindowStart = now;
+                rateWindowCount = 0;
+            }
+            return ++rateWindowCount <= limit;
+        }
+    }
+
+    private long nextLatency() {
+        long base = settings.getLatencyMillis();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        switch (settings.getLatencyDistribution()) {
+            case UNIFORM:
+                long jitter = settings.getLatencyJitterMillis();
+                return Math.max(0, base - jitter + (jitter > 0 ? rnd.nextLong(2 * jitter + 1) : 0));
+            case LOG_NORMAL:
+                return Math.round(base * Math.exp(settings.getLatencySigma() * rnd.nextGaussian()));
+            default:
+                return base;
+        }
+    }
+
+    private static boolean roll(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private static byte[] decodeLenient(String b64) {
+        String normalized = b64.replace('-', '+').replace('_', '/');
+        return Base64.getMimeDecoder().decode(normalized);
+    }
+
+    private static String lastDigits(String individualId) {
+        return individualId.length() <= 4 ? individualId : individualId.substring(individualId.length() - 4);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package auth.sdk.java.mock;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Behaviour knobs for {@link MockIdaServer}. The defaults answer every valid request immediately and successfully.
+ */
+@Getter
+@Setter
+public class MockIdaSettings {
+
+    public enum LatencyDistribution {
+        /** Every reply waits exactly {@code latencyMillis}. */
+        FIXED,
+        /** Uniform between {@code latencyMillis - latencyJitterMillis} and {@code latencyMillis + latencyJitterMillis}. */
+        UNIFORM,
+        /** Log-normal with median {@code latencyMillis} and shape {@code latencySigma}, giving a realistic long tail. */
+        LOG_NORMAL
+    }
+
+    /** Host to bind; the mock is meant for local benchmarking only. */
+    private String host = "127.0.0.1";
+
+    /** Port to bind; {@code 0} picks a free port. */
+    private int port = 0;
+
+    /** PKCS12 holding the mock IDA's key pair. The SDK must encrypt to this certificate. */
+    private String p12FilePath;
+
+    private String p12FilePassword;
+
+    private LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+
+    private long latencyMillis = 0;
+
+    private long latencyJitterMillis = 0;
+
+    private double latencySigma = 0.5;
+
+    /** Fraction of requests, 0..1, answered with HTTP 500 after the latency delay. */
+    private double serverErrorRate = 0;
+
+    /** Fraction of valid requests, 0..1, answered with HTTP 200 and an IDA {@code errors} entry. */
+    private double idaErrorRate = 0;
+
+    /** Requests per second admitted before answering HTTP 429; {@code 0} disables rate limiting. */
+    private int maxRequestsPerSecond = 0;
+
+    /** Requests processed at once before answering HTTP 429; {@code 0} disables the limit. */
+    private int maxConcurrentRequests = 0;
+
+    /** Check the JWS {@code Signature} header on every request. */
+    private boolean verifySignature = true;
+
+    /** Sign every reply with a detached JWS in {@code responseSignatureHeader}, as IDA does. */
+    private boolean signResponses = true;
+
+    private String responseSignatureHeader = "response-signature";
+}
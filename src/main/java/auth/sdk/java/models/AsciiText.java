@@ -0,0 +1,182 @@
+package auth.sdk.java.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable ASCII text held as one byte per character, for the Base64URL, JWS and hex values of a biometric capture
+ * that can be megabytes long.
+ * <p>
+ * It can be filled straight from a capture response being parsed ({@link #read(JsonParser)}), from bytes or from a
+ * {@link ByteBuffer}, and is serialized as a JSON string by copying its bytes into the generator, so a biometric
+ * value never has to exist as a {@code String}. {@link #toString()} does create one, and is meant for logging small
+ * values and for callers that need a {@code String} anyway.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+@JsonSerialize(using = AsciiText.Serializer.class)
+public final class AsciiText {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private AsciiText(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @JsonCreator
+    public static AsciiText of(String value) {
+        byte[] bytes = new byte[value.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = ascii(value.charAt(i), i);
+        }
+        return new AsciiText(bytes, 0, bytes.length);
+    }
+
+    /**
+     * A view of {@code bytes[offset, offset + length)} without copying; the caller must not change that range
+     * afterwards.
+     */
+    public static AsciiText wrap(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + bytes.length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] < 0) {
+                throw new IllegalArgumentException("Not ASCII at index " + i);
+            }
+        }
+        return new AsciiText(bytes, offset, length);
+    }
+
+    /**
+     * A copy of the remaining bytes of {@code src}, e.g. a direct buffer the capture was received into. The position
+     * of {@code src} is not changed.
+     */
+    public static AsciiText copyOf(ByteBuffer src) {
+        byte[] bytes = new byte[src.remaining()];
+        src.duplicate().get(bytes);
+        return wrap(bytes, 0, bytes.length);
+    }
+
+    /**
+     * The current string token of {@code parser}. The characters go from the parser's buffers into the new bytes in
+     * chunks, without being joined into one {@code char[]} or {@code String} first.
+     */
+    public static AsciiText read(JsonParser parser) throws IOException {
+        byte[] bytes = new byte[parser.getTextLength()];
+        parser.getText(new Writer() {
+            private int position;
+
+            @Override
+            public void write(char[] chars, int off, int len) {
+                for (int i = 0; i < len; i++) {
+                    bytes[position] = ascii(chars[off + i], position);
+                    position++;
+                }
+            }
+
+            @Override
+            public void write(String str, int off, int len) {
+                for (int i = 0; i < len; i++) {
+                    bytes[position] = ascii(str.charAt(off + i), position);
+                    position++;
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return new AsciiText(bytes, 0, bytes.length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * A read-only view of the bytes.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AsciiText)) {
+            return false;
+        }
+        AsciiText other = (AsciiText) o;
+        return Arrays.equals(bytes, offset, offset + length, other.bytes, other.offset, other.offset + other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+
+    private static byte ascii(char c, int index) {
+        if (c >= 0x80) {
+            throw new IllegalArgumentException("Not ASCII at index " + index);
+        }
+        return (byte) c;
+    }
+
+    /**
+     * Copies the bytes into UTF-8 generators, which covers every request body the SDK writes. Character-based
+     * generators, as behind {@code toJson()}, get a {@code String}.
+     */
+    static final class Serializer extends StdSerializer<AsciiText> {
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(AsciiText.class);
+        }
+
+        @Override
+        public void serialize(AsciiText value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (gen instanceof UTF8JsonGenerator) {
+                gen.writeUTF8String(value.bytes, value.offset, value.length);
+            } else {
+                gen.writeString(value.toString());
+            }
+        }
+    }
+}
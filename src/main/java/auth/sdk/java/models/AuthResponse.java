@@ -0,0 +1,20 @@
+package auth.sdk.java.models;
+
+import java.io.IOException;
+
+/**
+ * Reply to a demographic, OTP or biometric {@code /auth} request.
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class AuthResponse extends IdaResponse {
+
+    public AuthResponse(byte[] rawBody) throws IOException {
+        super(rawBody);
+    }
+
+    public boolean isAuthenticated() {
+        return Boolean.TRUE.equals(getAuthStatus());
+    }
+}
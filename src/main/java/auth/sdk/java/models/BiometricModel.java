@@ -1,15 +1,152 @@
 package auth.sdk.java.models;
 
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One captured biometric as sent to IDA. {@code data}, {@code hash} and {@code sessionKey} are held as
+ * {@link AsciiText}: a capture of ten fingers and two irises runs to tens of megabytes, and those values go from the
+ * device's response into the encrypted request without becoming {@code String}s. The {@code String} accessors
+ * convert on every call; use the {@code ...Text} ones on large values.
+ */
 @Getter
 @Setter
 public class BiometricModel {
-    private String data;
-    private String hash;
-    private String sessionKey;
+    @JsonProperty
+    private AsciiText data;
+    @JsonProperty
+    private AsciiText hash;
+    @JsonProperty
+    private AsciiText sessionKey;
     private String specVersion;
     private String thumbprint;
 
+    @JsonIgnore
+    public String getData() {
+        return data != null ? data.toString() : null;
+    }
+
+    @JsonIgnore
+    public void setData(String data) {
+        this.data = data != null ? AsciiText.of(data) : null;
+    }
+
+    @JsonIgnore
+    public AsciiText getDataText() {
+        return data;
+    }
+
+    @JsonIgnore
+    public void setDataText(AsciiText data) {
+        this.data = data;
+    }
+
+    @JsonIgnore
+    public String getHash() {
+        return hash != null ? hash.toString() : null;
+    }
+
+    @JsonIgnore
+    public void setHash(String hash) {
+        this.hash = hash != null ? AsciiText.of(hash) : null;
+    }
+
+    @JsonIgnore
+    public AsciiText getHashText() {
+        return hash;
+    }
+
+    @JsonIgnore
+    public void setHashText(AsciiText hash) {
+        this.hash = hash;
+    }
+
+    @JsonIgnore
+    public String getSessionKey() {
+        return sessionKey != null ? sessionKey.toString() : null;
+    }
+
+    @JsonIgnore
+    public void setSessionKey(String sessionKey) {
+        this.sessionKey = sessionKey != null ? AsciiText.of(sessionKey) : null;
+    }
+
+    @JsonIgnore
+    public AsciiText getSessionKeyText() {
+        return sessionKey;
+    }
+
+    @JsonIgnore
+    public void setSessionKeyText(AsciiText sessionKey) {
+        this.sessionKey = sessionKey;
+    }
+
+    /**
+     * Reads the {@code biometrics} of an SBI capture response with a single streaming pass, skipping everything else
+     * and entries without textual {@code data} (such as failed captures).
+     */
+    public static List<BiometricModel> readCaptureResponse(InputStream captureResponse) throws IOException {
+        List<BiometricModel> models = new ArrayList<>();
+        try (JsonParser parser = JsonCodecs.factory().createParser(captureResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Capture response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("biometrics".equals(name) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        BiometricModel model = readBiometric(parser);
+                        if (model.data != null) {
+                            models.add(model);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return models;
+    }
+
+    private static BiometricModel readBiometric(JsonParser parser) throws IOException {
+        BiometricModel model = new BiometricModel();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "data":
+                    model.data = AsciiText.read(parser);
+                    break;
+                case "hash":
+                    model.hash = AsciiText.read(parser);
+                    break;
+                case "sessionKey":
+                    model.sessionKey = AsciiText.read(parser);
+                    break;
+                case "specVersion":
+                    model.specVersion = parser.getText();
+                    break;
+                case "thumbprint":
+                    model.thumbprint = parser.getText();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
 }
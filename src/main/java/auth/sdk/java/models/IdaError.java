@@ -0,0 +1,13 @@
+package auth.sdk.java.models;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class IdaError {
+    private String errorCode;
+    private String errorMessage;
+    private String actionMessage;
+
+}
@@ -0,0 +1,181 @@
+package auth.sdk.java.models;
+
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Common base for the typed IDA replies.
+ * <p>
+ * The reply is scanned once with a streaming parser that keeps only {@code transactionID}, {@code errors}
+ * and the few fields of {@code response} the SDK acts on; every other value is skipped without being
+ * materialized. The raw bytes are kept so the full document can still be read through {@link #asMap()}
+ * or {@link #toJsonNode()}, which parse it on first use.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+@Getter
+public abstract class IdaResponse {
+    @Getter(AccessLevel.NONE)
+    private final byte[] rawBody;
+    private String transactionID;
+    private List<IdaError> errors = Collections.emptyList();
+    private Boolean authStatus;
+    private Boolean kycStatus;
+    private String sessionKey;
+    private String identity;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Map<String, Object> body;
+
+    protected IdaResponse(byte[] rawBody) throws IOException {
+        this.rawBody = rawBody;
+        try (JsonParser parser = JsonCodecs.factory().createParser(rawBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("IDA response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "transactionID":
+                        this.transactionID = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                        break;
+                    case "errors":
+                        this.errors = readErrors(parser, value);
+                        break;
+                    case "response":
+                        readResponse(parser, value);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only view of the reply as received; the bytes backing {@link #asMap()} and
+     * {@link #toJsonNode()} cannot be changed through it.
+     */
+    public ByteBuffer getRawBody() {
+        return ByteBuffer.wrap(rawBody).asReadOnlyBuffer();
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Returns the complete reply as a map, parsing the raw body on the first call.
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> parsed = body;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = body;
+                if (parsed == null) {
+                    try {
+                        parsed = JsonCodecs.mapReader().readValue(rawBody);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    body = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the complete reply as a tree, read straight from the raw body.
+     */
+    public JsonNode toJsonNode() {
+        try {
+            return JsonCodecs.treeReader().readTree(rawBody);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<IdaError> readErrors(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+        List<IdaError> errors = new ArrayList<>();
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+            if (element != JsonToken.START_OBJECT) {
+                // Not an error object; skip it whole so the rest of the array and the document stay in step
+                parser.skipChildren();
+                continue;
+            }
+            IdaError error = new IdaError();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String text = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                switch (field) {
+                    case "errorCode":
+                        error.setErrorCode(text);
+                        break;
+                    case "errorMessage":
+                        error.setErrorMessage(text);
+                        break;
+                    case "actionMessage":
+                        error.setActionMessage(text);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            errors.add(error);
+        }
+        return errors;
+    }
+
+    private void readResponse(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "authStatus":
+                    this.authStatus = token.isBoolean() ? token == JsonToken.VALUE_TRUE : null;
+                    break;
+                case "kycStatus":
+                    this.kycStatus = token.isBoolean() ? token == JsonToken.VALUE_TRUE : null;
+                    break;
+                case "sessionKey":
+                    this.sessionKey = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    break;
+                case "identity":
+                    this.identity = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package auth.sdk.java.models;
+
+import auth.sdk.java.utils.JsonCodecs;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decrypted KYC identity of one individual.
+ * <p>
+ * IDA returns each attribute either as a plain value ({@code "dob": "1992/04/15"}) or as a list of localized
+ * values ({@code "name": [{"language": "eng", "value": "..."}]}). Both shapes are normalized to a list of
+ * {@link IdentityInfo}; plain values get a {@code null} language. Nested objects are kept as their JSON text.
+ * The identity is read with a single streaming pass over the decrypted bytes.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+@Getter
+public class KycIdentity {
+    private final String transactionID;
+    private final Map<String, List<IdentityInfo>> attributes;
+
+    private KycIdentity(String transactionID, Map<String, List<IdentityInfo>> attributes) {
+        this.transactionID = transactionID;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    public static KycIdentity parse(String transactionID, byte[] identityJson) throws IOException {
+        Map<String, List<IdentityInfo>> attributes = new LinkedHashMap<>();
+        try (JsonParser parser = JsonCodecs.factory().createParser(identityJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("KYC identity is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                List<IdentityInfo> values = new ArrayList<>(1);
+                if (value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        values.add(readValue(parser, parser.currentToken()));
+                    }
+                } else if (value != JsonToken.VALUE_NULL) {
+                    values.add(readValue(parser, value));
+                }
+                attributes.put(name, values);
+            }
+        }
+        return new KycIdentity(transactionID, attributes);
+    }
+
+    private static IdentityInfo readValue(JsonParser parser, JsonToken token) throws IOException {
+        IdentityInfo info = new IdentityInfo();
+        if (token == JsonToken.START_OBJECT) {
+            Map<?, ?> object = parser.readValueAs(Map.class);
+            if (object.containsKey("value") && object.size() <= 2) {
+                Object language = object.get("language");
+                Object value = object.get("value");
+                info.setLanguage(language != null ? language.toString() : null);
+                info.setValue(value != null ? value.toString() : null);
+            } else {
+                info.setValue(((ObjectMapper) parser.getCodec()).writeValueAsString(object));
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            info.setValue(((ObjectMapper) parser.getCodec()).writeValueAsString(parser.readValueAs(List.class)));
+        } else if (token != JsonToken.VALUE_NULL) {
+            info.setValue(parser.getText());
+        }
+        return info;
+    }
+
+    /**
+     * First value of {@code attribute} regardless of language, or {@code null} if absent.
+     */
+    public String getValue(String attribute) {
+        List<IdentityInfo> values = attributes.get(attribute);
+        return values == null || values.isEmpty() ? null : values.get(0).getValue();
+    }
+
+    /**
+     * Value of {@code attribute} in {@code language}, falling back to a value without a language.
+     */
+    public String getValue(String attribute, String language) {
+        List<IdentityInfo> values = attributes.get(attribute);
+        if (values == null) {
+            return null;
+        }
+        String fallback = null;
+        for (IdentityInfo info : values) {
+            if (language.equals(info.getLanguage())) {
+                return info.getValue();
+            }
+            if (info.getLanguage() == null && fallback == null) {
+                fallback = info.getValue();
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Writes this identity as one JSON object, with every attribute in the normalized list form.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, List<IdentityInfo>> attribute : attributes.entrySet()) {
+            generator.writeArrayFieldStart(attribute.getKey());
+            for (IdentityInfo info : attribute.getValue()) {
+                generator.writeStartObject();
+                if (info.getLanguage() != null) {
+                    generator.writeStringField("language", info.getLanguage());
+                }
+                generator.writeStringField("value", info.getValue());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
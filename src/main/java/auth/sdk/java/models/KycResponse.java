@@ -0,0 +1,22 @@
+package auth.sdk.java.models;
+
+import java.io.IOException;
+
+/**
+ * Reply to a {@code /kyc} request. The encrypted {@code sessionKey} and {@code identity} are captured by the
+ * fast path so they can be handed to {@link auth.sdk.java.authenticator.Authenticator#decryptResponse(KycResponse)}
+ * without parsing the rest of the document.
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class KycResponse extends IdaResponse {
+
+    public KycResponse(byte[] rawBody) throws IOException {
+        super(rawBody);
+    }
+
+    public boolean isKycSuccessful() {
+        return Boolean.TRUE.equals(getKycStatus());
+    }
+}
@@ -1,15 +1,20 @@
 package auth.sdk.java.models;
 
+import auth.sdk.java.utils.JsonCodecs;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 @Getter
 @Setter
 public class MOSIPAuthRequest {
+    private static final ObjectWriter WRITER = JsonCodecs.writer(MOSIPAuthRequest.class);
+
     private String id;
     private String version;
     private String individualId;
@@ -29,9 +34,24 @@ public class MOSIPAuthRequest {
 
     public String toJson() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return WRITER.writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Error converting object to JSON", e);
         }
     }
+
+    public byte[] toJsonBytes() {
+        try {
+            return WRITER.writeValueAsBytes(this);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting object to JSON", e);
+        }
+    }
+
+    /**
+     * Serializes straight into {@code out}, without an intermediate {@code String} or {@code byte[]}.
+     */
+    public void writeJson(OutputStream out) throws IOException {
+        WRITER.writeValue(out, this);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package auth.sdk.java.models;
+
+import java.io.IOException;
+
+/**
+ * Reply to an {@code /otp} generation request.
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public class OtpResponse extends IdaResponse {
+
+    public OtpResponse(byte[] rawBody) throws IOException {
+        super(rawBody);
+    }
+}
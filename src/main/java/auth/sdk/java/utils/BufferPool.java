@@ -0,0 +1,86 @@
+package auth.sdk.java.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of fixed-size {@link ByteBuffer} segments backing {@link SegmentedBuffer}s on the request path.
+ * <p>
+ * Request bodies are assembled from segments instead of one array sized to the payload, so a multi-megabyte
+ * biometric request never needs a single large allocation (which G1 would place in humongous regions), and the
+ * segments are reused by the next request once the previous one has been sent. Segments can be direct buffers,
+ * keeping body bytes off the Java heap entirely.
+ * </p>
+ * <p>
+ * The pool never blocks: an empty pool allocates a new segment, and segments released while {@code maxPooled}
+ * are already idle are left to the garbage collector.
+ * </p>
+ */
+public final class BufferPool {
+    private final int segmentSize;
+    private final int maxPooled;
+    private final boolean direct;
+    private final Queue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final LongAdder allocated = new LongAdder();
+
+    public BufferPool(Config.BufferPool config) {
+        this(config.getSegment_size(), config.getMax_pooled_segments(), config.isDirect());
+    }
+
+    public BufferPool(int segmentSize, int maxPooled, boolean direct) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be positive");
+        }
+        this.segmentSize = segmentSize;
+        this.maxPooled = maxPooled;
+        this.direct = direct;
+    }
+
+    /**
+     * Returns a new, empty buffer drawing its segments from this pool. The caller owns one reference to it.
+     */
+    public SegmentedBuffer newBuffer() {
+        return new SegmentedBuffer(this);
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Segments currently idle in the pool.
+     */
+    public int getIdleSegments() {
+        return idleCount.get();
+    }
+
+    /**
+     * Segments allocated since the pool was created; growing steadily under constant load means {@code maxPooled}
+     * is too small.
+     */
+    public long getAllocatedSegments() {
+        return allocated.sum();
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer segment = idle.poll();
+        if (segment != null) {
+            idleCount.decrementAndGet();
+            return segment.clear();
+        }
+        allocated.increment();
+        return direct ? ByteBuffer.allocateDirect(segmentSize) : ByteBuffer.allocate(segmentSize);
+    }
+
+    void release(ByteBuffer segment) {
+        if (idleCount.incrementAndGet() <= maxPooled) {
+            idle.offer(segment);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package auth.sdk.java.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker for a single IDA endpoint.
+ * <p>
+ * The breaker keeps the outcome of the last {@code slidingWindowSize} calls. Once at least
+ * {@code minimumCalls} have been recorded and the failure rate reaches {@code failureRateThreshold}
+ * percent it opens and rejects calls for {@code openDurationMillis}. It then lets
+ * {@code halfOpenCalls} trial calls through: if all of them succeed it closes again, any failure re-opens it.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final Consumer<CircuitBreakerEvent> publisher;
+
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(String endpoint, int slidingWindowSize, int failureRateThreshold, int minimumCalls,
+                   long openDurationMillis, int halfOpenCalls, Consumer<CircuitBreakerEvent> publisher) {
+        this.endpoint = endpoint;
+        this.outcomes = new boolean[Math.max(1, slidingWindowSize)];
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.publisher = publisher;
+    }
+
+    /**
+     * Returns {@code true} if a call may proceed. Every permitted call must be followed by exactly one
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+     */
+    public boolean tryAcquire() {
+        CircuitBreakerEvent event = null;
+        boolean permitted;
+        synchronized (this) {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+                event = transition(State.HALF_OPEN);
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.CLOSED) {
+                permitted = true;
+            } else if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+                permitted = true;
+            } else {
+                permitted = false;
+            }
+        }
+        publish(event);
+        return permitted;
+    }
+
+    public void onSuccess() {
+        CircuitBreakerEvent event = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSuccesses >= halfOpenCalls) {
+                    resetWindow();
+                    event = transition(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        }
+        publish(event);
+    }
+
+    public void onFailure() {
+        CircuitBreakerEvent event = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                event = open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recorded >= minimumCalls && failureRate() >= failureRateThreshold) {
+                    event = open();
+                }
+            }
+        }
+        publish(event);
+    }
+
+    /**
+     * Ends a permitted call whose outcome says nothing about the endpoint, such as one abandoned because the caller
+     * ran out of time. It is not recorded, and a trial call of a half-open breaker is handed back.
+     */
+    public void onIgnored() {
+        synchronized (this) {
+            if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) {
+                halfOpenPermits++;
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private double failureRate() {
+        return recorded == 0 ? 0 : failures * 100.0 / recorded;
+    }
+
+    private CircuitBreakerEvent open() {
+        CircuitBreakerEvent event = transition(State.OPEN);
+        openedAt = System.currentTimeMillis();
+        return event;
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+
+    private CircuitBreakerEvent transition(State newState) {
+        CircuitBreakerEvent event = new CircuitBreakerEvent(endpoint, state, newState, failureRate());
+        state = newState;
+        return event;
+    }
+
+    private void publish(CircuitBreakerEvent event) {
+        if (event != null) {
+            publisher.accept(event);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package auth.sdk.java.utils;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A single circuit breaker state transition for one IDA endpoint.
+ */
+@Getter
+public class CircuitBreakerEvent {
+    private final String endpoint;
+    private final CircuitBreaker.State previousState;
+    private final CircuitBreaker.State newState;
+    private final double failureRate;
+    private final Instant timestamp;
+
+    public CircuitBreakerEvent(String endpoint, CircuitBreaker.State previousState, CircuitBreaker.State newState, double failureRate) {
+        this.endpoint = endpoint;
+        this.previousState = previousState;
+        this.newState = newState;
+        this.failureRate = failureRate;
+        this.timestamp = Instant.now();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerEvent{endpoint=" + endpoint + ", " + previousState + " -> " + newState
+                + ", failureRate=" + failureRate + "%, timestamp=" + timestamp + "}";
+    }
+}
@@ -0,0 +1,10 @@
+package auth.sdk.java.utils;
+
+/**
+ * Receives circuit breaker state transitions published by {@link ResiliencePolicy}.
+ * Listeners are called synchronously on the thread that caused the transition and should return quickly.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+    void onStateChange(CircuitBreakerEvent event);
+}
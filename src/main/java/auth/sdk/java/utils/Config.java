@@ -16,6 +16,18 @@ public class Config {
 
     private SignConfig crypto_signature;
 
+    private Resilience resilience;
+
+    private Batch batch;
+
+    private SessionKeyPool session_key_pool;
+
+    private BufferPool buffer_pool;
+
+    private KeyRotation key_rotation;
+
+    private ResponseVerification response_verification;
+
 
     @Getter
     @Setter
@@ -49,6 +61,10 @@ public class Config {
         private String ida_auth_url;
 
         private String ida_auth_domain_uri;
+
+        private long connect_timeout_ms;
+
+        private long read_timeout_ms;
     }
 
     @Getter
@@ -66,6 +82,10 @@ public class Config {
         private int symmetric_nonce_size;
 
         private int symmetric_gcm_tag_size;
+
+        private String encrypt_provider;
+
+        private String decrypt_provider;
     }
 
     @Getter
@@ -75,6 +95,106 @@ public class Config {
 
         private String sign_p12_file_password;
 
+        private String sign_provider;
+
+        private String sign_provider_config;
+
+        private String sign_keystore_type;
+
+        private String sign_key_alias;
+
         private String algorithm;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class Resilience {
+
+        private int max_retries;
+
+        private long retry_base_backoff_ms;
+
+        private long retry_max_backoff_ms;
+
+        private boolean hedging_enabled;
+
+        private int hedging_percentile;
+
+        private int hedging_min_samples;
+
+        private boolean circuit_breaker_enabled;
+
+        private int circuit_failure_rate_threshold;
+
+        private int circuit_sliding_window_size;
+
+        private int circuit_minimum_calls;
+
+        private long circuit_open_duration_ms;
+
+        private int circuit_half_open_calls;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        private int max_in_flight;
+
+        private long task_timeout_ms;
+
+        private String output_order;
+
+        private int checkpoint_interval;
+    }
+
+    @Getter
+    @Setter
+    public static class SessionKeyPool {
+
+        private boolean enabled;
+
+        private int capacity;
+
+        private int refill_threads;
+    }
+
+    @Getter
+    @Setter
+    public static class BufferPool {
+
+        private boolean enabled;
+
+        private int segment_size;
+
+        private int max_pooled_segments;
+
+        private boolean direct;
+    }
+
+    @Getter
+    @Setter
+    public static class KeyRotation {
+
+        private boolean watch_files;
+
+        private long debounce_ms;
+    }
+
+    @Getter
+    @Setter
+    public static class ResponseVerification {
+
+        private boolean enabled;
+
+        private String signature_header;
+
+        private String trust_cert_path;
+
+        private long chain_cache_ttl_ms;
+
+        private int chain_cache_max_entries;
+
+        private boolean allow_unverified;
+    }
+}
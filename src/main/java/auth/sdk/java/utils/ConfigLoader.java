@@ -35,6 +35,8 @@ public class ConfigLoader {
         Config.MosipAuthServer mosipAuthServer = new Config.MosipAuthServer();
         mosipAuthServer.setIda_auth_domain_uri(properties.getProperty("mosip_auth_server.ida_auth_domain_uri"));
         mosipAuthServer.setIda_auth_url(properties.getProperty("mosip_auth_server.ida_auth_url"));
+        mosipAuthServer.setConnect_timeout_ms(Long.parseLong(properties.getProperty("mosip_auth_server.connect_timeout_ms", "10000")));
+        mosipAuthServer.setRead_timeout_ms(Long.parseLong(properties.getProperty("mosip_auth_server.read_timeout_ms", "30000")));
         config.setMosip_auth_server(mosipAuthServer);
 
         // Load crypto_encrypt section
@@ -45,6 +47,8 @@ public class ConfigLoader {
         encryptConfig.setEncrypt_cert_path(properties.getProperty("crypto_encrypt.encrypt_cert_path"));
         encryptConfig.setDecrypt_p12_file_path(properties.getProperty("crypto_encrypt.decrypt_p12_file_path"));
         encryptConfig.setDecrypt_p12_file_password(properties.getProperty("crypto_encrypt.decrypt_p12_file_password"));
+        encryptConfig.setEncrypt_provider(properties.getProperty("crypto_encrypt.encrypt_provider", ""));
+        encryptConfig.setDecrypt_provider(properties.getProperty("crypto_encrypt.decrypt_provider", ""));
         config.setCrypto_encrypt(encryptConfig);
 
         // Load crypto_signature section
@@ -52,8 +56,67 @@ public class ConfigLoader {
         signConfig.setAlgorithm(properties.getProperty("crypto_signature.algorithm"));
         signConfig.setSign_p12_file_path(properties.getProperty("crypto_signature.sign_p12_file_path"));
         signConfig.setSign_p12_file_password(properties.getProperty("crypto_signature.sign_p12_file_password"));
+        signConfig.setSign_provider(properties.getProperty("crypto_signature.sign_provider", ""));
+        signConfig.setSign_provider_config(properties.getProperty("crypto_signature.sign_provider_config", ""));
+        signConfig.setSign_keystore_type(properties.getProperty("crypto_signature.sign_keystore_type", "PKCS12"));
+        signConfig.setSign_key_alias(properties.getProperty("crypto_signature.sign_key_alias", ""));
         config.setCrypto_signature(signConfig);
 
+        // Load resilience section
+        Config.Resilience resilience = new Config.Resilience();
+        resilience.setMax_retries(Integer.parseInt(properties.getProperty("resilience.max_retries", "0")));
+        resilience.setRetry_base_backoff_ms(Long.parseLong(properties.getProperty("resilience.retry_base_backoff_ms", "100")));
+        resilience.setRetry_max_backoff_ms(Long.parseLong(properties.getProperty("resilience.retry_max_backoff_ms", "2000")));
+        resilience.setHedging_enabled(Boolean.parseBoolean(properties.getProperty("resilience.hedging_enabled", "false")));
+        resilience.setHedging_percentile(Integer.parseInt(properties.getProperty("resilience.hedging_percentile", "95")));
+        resilience.setHedging_min_samples(Integer.parseInt(properties.getProperty("resilience.hedging_min_samples", "50")));
+        resilience.setCircuit_breaker_enabled(Boolean.parseBoolean(properties.getProperty("resilience.circuit_breaker_enabled", "false")));
+        resilience.setCircuit_failure_rate_threshold(Integer.parseInt(properties.getProperty("resilience.circuit_failure_rate_threshold", "50")));
+        resilience.setCircuit_sliding_window_size(Integer.parseInt(properties.getProperty("resilience.circuit_sliding_window_size", "20")));
+        resilience.setCircuit_minimum_calls(Integer.parseInt(properties.getProperty("resilience.circuit_minimum_calls", "10")));
+        resilience.setCircuit_open_duration_ms(Long.parseLong(properties.getProperty("resilience.circuit_open_duration_ms", "30000")));
+        resilience.setCircuit_half_open_calls(Integer.parseInt(properties.getProperty("resilience.circuit_half_open_calls", "3")));
+        config.setResilience(resilience);
+
+        // Load batch section
+        Config.Batch batch = new Config.Batch();
+        batch.setMax_in_flight(Integer.parseInt(properties.getProperty("batch.max_in_flight", "256")));
+        batch.setTask_timeout_ms(Long.parseLong(properties.getProperty("batch.task_timeout_ms", "0")));
+        batch.setOutput_order(properties.getProperty("batch.output_order", "input"));
+        batch.setCheckpoint_interval(Integer.parseInt(properties.getProperty("batch.checkpoint_interval", "1000")));
+        config.setBatch(batch);
+
+        // Load session_key_pool section
+        Config.SessionKeyPool sessionKeyPool = new Config.SessionKeyPool();
+        sessionKeyPool.setEnabled(Boolean.parseBoolean(properties.getProperty("session_key_pool.enabled", "false")));
+        sessionKeyPool.setCapacity(Integer.parseInt(properties.getProperty("session_key_pool.capacity", "64")));
+        sessionKeyPool.setRefill_threads(Integer.parseInt(properties.getProperty("session_key_pool.refill_threads", "1")));
+        config.setSession_key_pool(sessionKeyPool);
+
+        // Load buffer_pool section
+        Config.BufferPool bufferPool = new Config.BufferPool();
+        bufferPool.setEnabled(Boolean.parseBoolean(properties.getProperty("buffer_pool.enabled", "true")));
+        bufferPool.setSegment_size(Integer.parseInt(properties.getProperty("buffer_pool.segment_size", "65536")));
+        bufferPool.setMax_pooled_segments(Integer.parseInt(properties.getProperty("buffer_pool.max_pooled_segments", "512")));
+        bufferPool.setDirect(Boolean.parseBoolean(properties.getProperty("buffer_pool.direct", "false")));
+        config.setBuffer_pool(bufferPool);
+
+        // Load key_rotation section
+        Config.KeyRotation keyRotation = new Config.KeyRotation();
+        keyRotation.setWatch_files(Boolean.parseBoolean(properties.getProperty("key_rotation.watch_files", "false")));
+        keyRotation.setDebounce_ms(Long.parseLong(properties.getProperty("key_rotation.debounce_ms", "500")));
+        config.setKey_rotation(keyRotation);
+
+        // Load response_verification section
+        Config.ResponseVerification responseVerification = new Config.ResponseVerification();
+        responseVerification.setEnabled(Boolean.parseBoolean(properties.getProperty("response_verification.enabled", "false")));
+        responseVerification.setSignature_header(properties.getProperty("response_verification.signature_header", "response-signature"));
+        responseVerification.setTrust_cert_path(properties.getProperty("response_verification.trust_cert_path", ""));
+        responseVerification.setChain_cache_ttl_ms(Long.parseLong(properties.getProperty("response_verification.chain_cache_ttl_ms", "3600000")));
+        responseVerification.setChain_cache_max_entries(Integer.parseInt(properties.getProperty("response_verification.chain_cache_max_entries", "64")));
+        responseVerification.setAllow_unverified(Boolean.parseBoolean(properties.getProperty("response_verification.allow_unverified", "false")));
+        config.setResponse_verification(responseVerification);
+
         return config;
     }
 }
@@ -0,0 +1,92 @@
+package auth.sdk.java.utils;
+
+import javax.crypto.Cipher;
+import java.security.DrbgParameters;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.util.Objects;
+
+/**
+ * Pools of the JCA engines used by {@link CryptoUtil}, so provider lookup and DRBG seeding happen once per pooled
+ * engine rather than once per request.
+ * <ul>
+ *   <li>{@code AES/GCM/NoPadding} and RSA-OAEP {@link Cipher}s are re-initialised with the caller's key and
+ *   parameters on every use; a pooled cipher carries no key material between callers.</li>
+ *   <li>SHA-256 {@link MessageDigest}s are reset by {@code digest()} before they go back to the pool.</li>
+ *   <li>{@code DRBG} {@link SecureRandom}s are seeded from the system entropy source when created and
+ *   reseed themselves according to the provider's schedule.</li>
+ * </ul>
+ * Ciphers for encryption and decryption come from the providers configured for each; when both are the JDK default
+ * (or the same provider) they share one pool.
+ */
+final class CryptoEngines {
+    static final String AES_GCM = "AES/GCM/NoPadding";
+    static final String RSA_OAEP = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+    static final String SHA_256 = "SHA-256";
+
+    private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final EnginePool<Cipher> aesGcm;
+    private final EnginePool<Cipher> rsaOaep;
+    private final EnginePool<Cipher> aesGcmDecrypt;
+    private final EnginePool<Cipher> rsaOaepDecrypt;
+    private final EnginePool<MessageDigest> sha256 = new EnginePool<>(() -> MessageDigest.getInstance(SHA_256), MAX_IDLE);
+    private final EnginePool<SecureRandom> drbg = new EnginePool<>(CryptoEngines::newDrbg, MAX_IDLE);
+
+    /**
+     * @param encryptProvider provider of the ciphers used to encrypt requests, {@code null} for the JDK default
+     * @param decryptProvider provider of the ciphers used to decrypt KYC replies, {@code null} for the JDK default
+     */
+    CryptoEngines(Provider encryptProvider, Provider decryptProvider) {
+        this.aesGcm = cipherPool(AES_GCM, encryptProvider);
+        this.rsaOaep = cipherPool(RSA_OAEP, encryptProvider);
+        boolean shared = Objects.equals(encryptProvider, decryptProvider);
+        this.aesGcmDecrypt = shared ? aesGcm : cipherPool(AES_GCM, decryptProvider);
+        this.rsaOaepDecrypt = shared ? rsaOaep : cipherPool(RSA_OAEP, decryptProvider);
+    }
+
+    private static EnginePool<Cipher> cipherPool(String transformation, Provider provider) {
+        return provider == null
+                ? new EnginePool<>(() -> Cipher.getInstance(transformation), MAX_IDLE)
+                : new EnginePool<>(() -> Cipher.getInstance(transformation, provider), MAX_IDLE);
+    }
+
+    EnginePool<Cipher> aesGcm() {
+        return aesGcm;
+    }
+
+    EnginePool<Cipher> rsaOaep() {
+        return rsaOaep;
+    }
+
+    EnginePool<Cipher> aesGcmDecrypt() {
+        return aesGcmDecrypt;
+    }
+
+    EnginePool<Cipher> rsaOaepDecrypt() {
+        return rsaOaepDecrypt;
+    }
+
+    EnginePool<MessageDigest> sha256() {
+        return sha256;
+    }
+
+    /**
+     * Fills {@code bytes} from a pooled DRBG.
+     */
+    void nextBytes(byte[] bytes) throws GeneralSecurityException {
+        SecureRandom random = drbg.acquire();
+        try {
+            random.nextBytes(bytes);
+        } finally {
+            drbg.release(random);
+        }
+    }
+
+    private static SecureRandom newDrbg() throws GeneralSecurityException {
+        return SecureRandom.getInstance("DRBG",
+                DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+    }
+}
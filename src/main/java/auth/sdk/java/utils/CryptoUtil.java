@@ -12,6 +12,11 @@ package auth.sdk.java.utils;
  * </ul>
  * <b>Usage:</b> Used internally by the {@link auth.sdk.java.authenticator.Authenticator} class.
  * </p>
+ * <p>
+ * Key material lives in an immutable {@link KeySet} that {@link #reloadKeys()} replaces atomically when the key
+ * files rotate. Ciphers, digests and DRBGs are borrowed from {@link CryptoEngines} for the duration of one
+ * operation, so a single instance can be shared across threads.
+ * </p>
  *
  * @author Tezaswa06
  * @version 1.0
@@ -19,11 +24,7 @@ package auth.sdk.java.utils;
 
 import auth.sdk.java.exceptions.AuthenticatorCryptoException;
 import auth.sdk.java.exceptions.Errors;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.util.Base64URL;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
@@ -33,121 +34,110 @@ import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.OAEPParameterSpec;
 import javax.crypto.spec.PSource;
 import javax.crypto.spec.SecretKeySpec;
-import java.io.FileInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.*;
-import java.security.cert.Certificate;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class CryptoUtil {
+public class CryptoUtil implements AutoCloseable {
     private static final String HASH_ALGO = "SHA-256";
-    private static final String RSA_ALGO = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
     private static final String MGF1 = "MGF1";
+    private static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec(
+            HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+    private static final int GCM_IV_SIZE = 16;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int STREAM_CHUNK_SIZE = 16 * 1024;
+    private static final java.util.Base64.Encoder STREAM_ENCODER = java.util.Base64.getUrlEncoder().withoutPadding();
     private final Logger logger;
-    private final RSAPublicKey encryptPublicKey;
-    private final RSAPrivateKey decryptPrivateKey;
-    private final RSAPrivateKey signPrivateKey;
-    private final X509Certificate signCert;
     private final String algorithm;
     private final int symmetricKeySize;
-    private final String encCertThumbprint;
-    private final JWK signPrivKeyJws;
+    private final CryptoEngines engines;
+    private final SessionKeyPool sessionKeyPool;
+    private final KeyMaterialRegistry keyMaterial;
+    private final AtomicReference<KeySet> keySet = new AtomicReference<>();
+    private final Object rotationLock = new Object();
+    private volatile Config.EncryptConfig encryptConfig;
+    private volatile Config.SignConfig signConfig;
 
     public CryptoUtil(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig, Logger logger) throws Exception {
-        this.logger = logger;
-
-        // Load encryption certificate
-        this.encryptPublicKey = (RSAPublicKey) getCertificateObj(encryptConfig.getEncrypt_cert_path(), logger).getPublicKey();
+        this(encryptConfig, signConfig, null, logger);
+    }
 
-        // Load decryption private key
-        Object[] decryptKeyStoreData = getPrivateKeyAndCertificate(
-                encryptConfig.getDecrypt_p12_file_path(),
-                encryptConfig.getDecrypt_p12_file_password(),
-                this.logger
-        );
-        this.decryptPrivateKey = (RSAPrivateKey) decryptKeyStoreData[0];
+    /**
+     * @param sessionKeyPoolConfig optional; when enabled, session keys are pre-generated in the background
+     */
+    public CryptoUtil(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig,
+                      Config.SessionKeyPool sessionKeyPoolConfig, Logger logger) throws Exception {
+        this(encryptConfig, signConfig, sessionKeyPoolConfig, KeyMaterialRegistry.getDefault(), logger);
+    }
 
-        // Load signing private key and certificate
-        Object[] signKeyStoreData = getPrivateKeyAndCertificate(
-                signConfig.getSign_p12_file_path(),
-                signConfig.getSign_p12_file_password(),
-                this.logger
+    /**
+     * @param keyMaterial where certificates and PKCS12 files are parsed; the same keystore used for decryption and
+     *                    signing, or shared with another instance, is only decrypted once
+     */
+    public CryptoUtil(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig,
+                      Config.SessionKeyPool sessionKeyPoolConfig, KeyMaterialRegistry keyMaterial, Logger logger) throws Exception {
+        this.logger = logger;
+        this.keyMaterial = keyMaterial;
+        this.encryptConfig = encryptConfig;
+        this.signConfig = signConfig;
+
+        // Cipher providers for request encryption and KYC decryption, JDK default unless configured
+        this.engines = new CryptoEngines(
+                JcaProviders.resolve(encryptConfig.getEncrypt_provider(), null, logger),
+                JcaProviders.resolve(encryptConfig.getDecrypt_provider(), null, logger)
         );
-        this.signPrivateKey = (RSAPrivateKey) signKeyStoreData[0];
-        this.signCert = (X509Certificate) signKeyStoreData[1];
 
-        // Initialize signPrivKeyJws
-        this.signPrivKeyJws = CryptoUtil.getJwkPrivateKey(this.signPrivateKey, signConfig.getSign_p12_file_password(), this.logger);
+        // Encryption certificate, decryption key and signing key, swapped atomically on rotation
+        this.keySet.set(KeySet.load(encryptConfig, signConfig, keyMaterial, null, logger));
 
         // Symmetric encryption parameters
         this.symmetricKeySize = encryptConfig.getSymmetric_key_size();
 
-        // Calculate the thumbprint of the encryption certificate
-        this.encCertThumbprint = calculateEncCertThumbprint(encryptConfig.getEncrypt_cert_path());
-
         // Signing algorithm
         this.algorithm = signConfig.getAlgorithm();
-    }
 
-    private static X509Certificate getCertificateObj(String certPath, Logger logger) throws AuthenticatorCryptoException {
-        logger.info("Creating certificate object for the file path: {}", certPath);
-        try (FileInputStream fis = new FileInputStream(certPath)) {
-            CertificateFactory factory = CertificateFactory.getInstance("X.509");
-            return (X509Certificate) factory.generateCertificate(fis);
-        } catch (Exception e) {
-            logger.error("Error reading certificate file. Error Message: {}", e.getMessage(), e);
-            throw new AuthenticatorCryptoException(Errors.AUT_CRY_001.name(), Errors.AUT_CRY_001.getMessage(certPath));
-        }
+        // Session key pre-generation, started last so the generator sees fully loaded keys
+        this.sessionKeyPool = sessionKeyPoolConfig != null && sessionKeyPoolConfig.isEnabled()
+                ? new SessionKeyPool(sessionKeyPoolConfig, this.keySet::get, this::newSessionKey, logger)
+                : null;
     }
 
-    public static Object[] getPrivateKeyAndCertificate(String p12FilePath, String p12FilePassword, Logger logger) throws AuthenticatorCryptoException {
-        logger.info("Reading P12 file. File Path: {}", p12FilePath);
-        try (FileInputStream fis = new FileInputStream(p12FilePath)) {
-            KeyStore keyStore = KeyStore.getInstance("PKCS12");
-            keyStore.load(fis, p12FilePassword.toCharArray());
-
-            String alias = keyStore.aliases().nextElement();
-            PrivateKey privateKey = (PrivateKey) keyStore.getKey(alias, p12FilePassword.toCharArray());
-            Certificate certificate = keyStore.getCertificate(alias);
-
-            return new Object[]{privateKey, certificate};
-        }
-        catch (Exception e) {
-            logger.error("Error Loading P12 file to create objects. Error: {}", e.getMessage(), e);
-            throw new AuthenticatorCryptoException(
-                    Errors.AUT_CRY_002.name(),
-                    Errors.AUT_CRY_002.getMessage(p12FilePath)
-            );
+    /**
+     * Stops the session key pool's refill threads and drops the keys it holds. Requests made afterwards generate
+     * their session keys inline.
+     */
+    @Override
+    public void close() {
+        if (sessionKeyPool != null) {
+            sessionKeyPool.close();
         }
     }
 
-    private String calculateEncCertThumbprint(String certPath) throws AuthenticatorCryptoException {
-        logger.info("Calculating thumbprint for certificate: {}", certPath);
-        try (FileInputStream fis = new FileInputStream(certPath)) {
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-            X509Certificate cert = (X509Certificate) certFactory.generateCertificate(fis);
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] encodedCert = digest.digest(cert.getEncoded());
-
-            return Base64.encodeBase64URLSafeString(encodedCert);
-        }
-        catch (Exception e) {
-            logger.error("Error calculating thumbprint for certificate: {}", certPath, e);
-            throw new AuthenticatorCryptoException(
-                    Errors.AUT_CRY_001.name(),
-                    Errors.AUT_CRY_001.getMessage(certPath)
-            );
-        }
+    public static Object[] getPrivateKeyAndCertificate(String p12FilePath, String p12FilePassword, Logger logger) throws AuthenticatorCryptoException {
+        KeyMaterialRegistry.KeyStoreMaterial keyStore = KeyMaterialRegistry.getDefault().keyStore(p12FilePath, p12FilePassword, logger);
+        return new Object[]{keyStore.getPrivateKey(), keyStore.getCertificate().getCertificate()};
     }
 
+    /**
+     * Converts {@code privateKey} to a nimbus {@link JWK}. Not used on the request path; call it only where a JWK
+     * is actually needed, since the PEM round trip is slow.
+     */
     public static JWK getJwkPrivateKey(PrivateKey privateKey, String keyPassword, Logger logger) throws Exception {
         logger.info("Creating JWK key for JWS signing.");
 
@@ -166,135 +156,320 @@ public class CryptoUtil {
         return JWK.parseFromPEMEncodedObjects(privateKeyPem);
     }
 
-    private byte[] asymmetricEncrypt(byte[] aesRandomKey) throws Exception {
+    private byte[] asymmetricEncrypt(byte[] aesRandomKey, RSAPublicKey encryptPublicKey) throws Exception {
         logger.debug("Encrypting the AES Random Key.");
-        Cipher cipher = Cipher.getInstance(RSA_ALGO);
-        OAEPParameterSpec oaepParams = new OAEPParameterSpec(HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
-        cipher.init(Cipher.ENCRYPT_MODE, encryptPublicKey, oaepParams);
-        return cipher.doFinal(aesRandomKey);
+        Cipher cipher = engines.rsaOaep().acquire();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, encryptPublicKey, OAEP_PARAMS);
+            return cipher.doFinal(aesRandomKey);
+        } finally {
+            engines.rsaOaep().release(cipher);
+        }
     }
 
-    private byte[] asymmetricDecrypt(byte[] encryptedData) throws Exception {
+    /**
+     * Unwraps with the active decryption key, falling back to the one retained from before the last rotation for
+     * replies that were encrypted for the previous partner certificate.
+     */
+    private byte[] asymmetricDecrypt(byte[] encryptedData, KeySet keys) throws Exception {
         logger.debug("Asymmetric Decryption");
-        Cipher cipher = Cipher.getInstance(RSA_ALGO);
-        OAEPParameterSpec oaepParams = new OAEPParameterSpec(
-                HASH_ALGO,
-                MGF1,
-                MGF1ParameterSpec.SHA256,
-                PSource.PSpecified.DEFAULT
-        );
-        cipher.init(Cipher.DECRYPT_MODE, decryptPrivateKey, oaepParams);
-        return cipher.doFinal(encryptedData);
+        Cipher cipher = engines.rsaOaepDecrypt().acquire();
+        try {
+            List<RSAPrivateKey> decryptKeys = keys.getDecryptKeys();
+            for (int i = 0; ; i++) {
+                cipher.init(Cipher.DECRYPT_MODE, decryptKeys.get(i), OAEP_PARAMS);
+                try {
+                    return cipher.doFinal(encryptedData);
+                } catch (GeneralSecurityException e) {
+                    if (i == decryptKeys.size() - 1) {
+                        throw e;
+                    }
+                    logger.debug("Session key did not unwrap with decryption key {}, trying the previous one.", i);
+                }
+            }
+        } finally {
+            engines.rsaOaepDecrypt().release(cipher);
+        }
     }
 
-
-    private static byte[] symmetricEncrypt(byte[] data, byte[] key, byte[] aad) throws Exception {
-        SecretKeySpec spec = new SecretKeySpec(key, "AES");
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-
-        byte[] iv = new byte[16]; // GCM standard IV size
-        SecureRandom secureRandom = new SecureRandom();
-        secureRandom.nextBytes(iv);
-
-        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv);
-        cipher.init(Cipher.ENCRYPT_MODE, spec, gcmParameterSpec);
-
-        byte[] encryptedData = cipher.doFinal(data);
-
-        byte[] output = new byte[encryptedData.length + iv.length];
-        System.arraycopy(encryptedData, 0, output, 0, encryptedData.length);
-        System.arraycopy(iv, 0, output, encryptedData.length, iv.length);
-        return output;
+    /**
+     * AES-GCM encrypts {@code data} and returns {@code ciphertext || iv}. The caller owns {@code iv} and must never
+     * pass the same value twice for one key.
+     */
+    private byte[] symmetricEncrypt(byte[] data, byte[] key, byte[] iv) throws Exception {
+        Cipher cipher = engines.aesGcm().acquire();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            byte[] output = new byte[cipher.getOutputSize(data.length) + iv.length];
+            int written = cipher.doFinal(data, 0, data.length, output, 0);
+            System.arraycopy(iv, 0, output, written, iv.length);
+            return output;
+        } finally {
+            engines.aesGcm().release(cipher);
+        }
     }
 
-    private static byte[] symmetricDecrypt(byte[] encryptedData, byte[] key, byte[] aad) throws Exception {
-        SecretKeySpec spec = new SecretKeySpec(key, "AES");
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    private byte[] symmetricDecrypt(byte[] encryptedData, byte[] key, byte[] aad) throws Exception {
+        Cipher cipher = engines.aesGcmDecrypt().acquire();
+        try {
+            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(
+                    GCM_TAG_BITS, encryptedData, encryptedData.length - GCM_IV_SIZE, GCM_IV_SIZE);
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"), gcmParameterSpec);
 
-        byte[] iv = new byte[16];
-        System.arraycopy(encryptedData, encryptedData.length - iv.length, iv, 0, iv.length);
+            if (aad != null) {
+                cipher.updateAAD(aad);
+            }
 
-        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv);
-        cipher.init(Cipher.DECRYPT_MODE, spec, gcmParameterSpec);
+            return cipher.doFinal(encryptedData, 0, encryptedData.length - GCM_IV_SIZE);
+        } finally {
+            engines.aesGcmDecrypt().release(cipher);
+        }
+    }
 
-        if (aad != null) {
-            cipher.updateAAD(aad);
+    /**
+     * Advances {@code iv} to the next value by incrementing it as a big-endian counter, so successive GCM operations
+     * under one session key are guaranteed distinct IVs.
+     */
+    private static void nextIv(byte[] iv) {
+        for (int i = iv.length - 1; i >= 0; i--) {
+            if (++iv[i] != 0) {
+                return;
+            }
         }
+    }
 
-        return cipher.doFinal(encryptedData, 0, encryptedData.length - iv.length);
+    private byte[] sha256(byte[] data) throws Exception {
+        MessageDigest digest = engines.sha256().acquire();
+        try {
+            return digest.digest(data);
+        } finally {
+            engines.sha256().release(digest);
+        }
     }
 
 
     public Map<String, Object> decryptAuthData(String sessionKeyB64, String encryptedIdentityB64) throws Exception {
+        byte[] identity = decryptAuthDataBytes(sessionKeyB64, encryptedIdentityB64);
         try {
-            String sessionKeyB64Padded = Base64URL.encode(Base64URL.from(sessionKeyB64).decode()).toString();
-            String encryptedIdentityB64Padded = Base64URL.encode(Base64URL.from(encryptedIdentityB64).decode()).toString();
-
-            byte[] sessionKey = Base64.decodeBase64(sessionKeyB64Padded);
-            byte[] encryptedIdentity = Base64.decodeBase64(encryptedIdentityB64Padded);
+            return JsonCodecs.mapReader().readValue(identity);
+        }
+        catch (Exception e) {
+            logger.error("Error decrypting Auth Data. Error Message: {}", e.getMessage(), e);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_003.name(), Errors.AUT_CRY_003.getMessage());
+        }
+    }
 
-            byte[] symKey = asymmetricDecrypt(sessionKey);
+    /**
+     * Decrypts a KYC {@code identity} and returns its plain JSON bytes without parsing them. Both inputs are decoded
+     * in a single pass; padded, unpadded, URL-safe and standard Base64 are all accepted. Safe to call from many
+     * threads at once.
+     */
+    public byte[] decryptAuthDataBytes(String sessionKeyB64, String encryptedIdentityB64) throws Exception {
+        byte[] symKey = null;
+        try {
+            byte[] sessionKey = Base64.decodeBase64(sessionKeyB64);
+            byte[] encryptedIdentity = Base64.decodeBase64(encryptedIdentityB64);
 
-            byte[] identity = symmetricDecrypt(encryptedIdentity, symKey, null);
+            symKey = asymmetricDecrypt(sessionKey, keySet.get());
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(identity, Map.class);
+            return symmetricDecrypt(encryptedIdentity, symKey, null);
         }
         catch (Exception e) {
             logger.error("Error decrypting Auth Data. Error Message: {}", e.getMessage(), e);
             throw new AuthenticatorCryptoException(Errors.AUT_CRY_003.name(), Errors.AUT_CRY_003.getMessage());
+        } finally {
+            if (symKey != null) {
+                Arrays.fill(symKey, (byte) 0);
+            }
         }
     }
 
     public String[] encryptAuthData(byte[] authData) throws Exception {
+        return encryptAuthData(keySet.get(), authData);
+    }
+
+    /**
+     * Same as {@link #encryptAuthData(byte[])} with the session key wrapped for {@code keys}, the snapshot the
+     * caller took at the start of its request.
+     */
+    public String[] encryptAuthData(KeySet keys, byte[] authData) throws Exception {
         logger.info("Request for Auth Data Encryption.");
         if (authData == null || authData.length == 0) {
             throw new IllegalArgumentException("Auth data cannot be null or empty");
         }
 
+        byte[] aesKey = null;
         try {
-            byte[] aesKey = new byte[symmetricKeySize / 8];
-            SecureRandom secureRandom = new SecureRandom();
-            secureRandom.nextBytes(aesKey);
+            SessionKey sessionKey = sessionKeyPool != null ? sessionKeyPool.take(keys) : newSessionKey(keys);
+            aesKey = sessionKey.getAesKey();
+            byte[] iv = new byte[GCM_IV_SIZE];
+            engines.nextBytes(iv);
 
-            byte[] encryptedAuthData = symmetricEncrypt(authData, aesKey, null);
+            byte[] encryptedAuthData = symmetricEncrypt(authData, aesKey, iv);
             String encryptedAuthB64Data = Base64.encodeBase64URLSafeString(encryptedAuthData);
-            logger.info("Generating AES Key and encrypting Auth Data Completed.");
-
-            byte[] encryptedAesKey = asymmetricEncrypt(aesKey);
-            String encryptedAesKeyB64 = Base64.encodeBase64URLSafeString(encryptedAesKey);
-            logger.info("Encrypting Random AES Key Completed.");
+            logger.info("Encrypting Auth Data Completed.");
 
-            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
-            byte[] authDataHash = sha256.digest(authData);
-            String hexStr = Hex.encodeHexString(authDataHash).toUpperCase();
+            String hexStr = Hex.encodeHexString(sha256(authData)).toUpperCase();
 
-            byte[] encryptedHashData = symmetricEncrypt(hexStr.getBytes(), aesKey, null);
+            nextIv(iv);
+            byte[] encryptedHashData = symmetricEncrypt(hexStr.getBytes(), aesKey, iv);
             String encAuthDataHashB64 = Base64.encodeBase64URLSafeString(encryptedHashData);
 
             logger.info("Generation of SHA256 Hash for the Auth Data completed.");
-            return new String[]{encryptedAuthB64Data, encryptedAesKeyB64, encAuthDataHashB64};
+            return new String[]{encryptedAuthB64Data, sessionKey.getWrappedKeyB64(), encAuthDataHashB64};
         } catch (Exception e) {
             logger.error("Error encrypting Auth Data. Error Message: {}", e.getMessage(), e);
             throw new AuthenticatorCryptoException(Errors.AUT_CRY_003.name(), Errors.AUT_CRY_003.getMessage());
+        } finally {
+            if (aesKey != null) {
+                Arrays.fill(aesKey, (byte) 0);
+            }
         }
     }
 
-    public String signAuthRequestData(String authRequestData) throws Exception {
-        logger.info("Request for Sign Auth Request Data.");
+    /**
+     * Streaming form of {@link #encryptAuthData(byte[])} for large biometric requests.
+     * <p>
+     * Reads {@code authData} once, feeding every chunk through AES-GCM and SHA-256 together, and writes the
+     * Base64URL (unpadded) encoding of {@code ciphertext || iv} to {@code encryptedB64Out} as it goes. Only a fixed
+     * working buffer is held, regardless of payload size. {@code encryptedB64Out} is not closed.
+     * </p>
+     *
+     * @return the wrapped session key and the encrypted hash, i.e. {@code requestSessionKey} and {@code requestHMAC}
+     */
+    public EncryptedAuthData encryptAuthData(InputStream authData, OutputStream encryptedB64Out) throws Exception {
+        byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+        return encryptStreaming(keySet.get(), sink -> {
+            int read;
+            while ((read = authData.read(chunk)) != -1) {
+                sink.accept(chunk, 0, read);
+            }
+        }, encryptedB64Out);
+    }
+
+    /**
+     * Same as {@link #encryptAuthData(InputStream, OutputStream)} over a sequence of buffers, e.g. the segments of a
+     * request that was assembled in pieces. The buffers' positions are not modified.
+     */
+    public EncryptedAuthData encryptAuthData(Iterable<ByteBuffer> authData, OutputStream encryptedB64Out) throws Exception {
+        return encryptAuthData(keySet.get(), authData, encryptedB64Out);
+    }
+
+    public EncryptedAuthData encryptAuthData(KeySet keys, Iterable<ByteBuffer> authData, OutputStream encryptedB64Out) throws Exception {
+        byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+        return encryptStreaming(keys, sink -> {
+            for (ByteBuffer buffer : authData) {
+                ByteBuffer source = buffer.duplicate();
+                while (source.hasRemaining()) {
+                    int length = Math.min(chunk.length, source.remaining());
+                    source.get(chunk, 0, length);
+                    sink.accept(chunk, 0, length);
+                }
+            }
+        }, encryptedB64Out);
+    }
+
+    private EncryptedAuthData encryptStreaming(KeySet keys, ChunkSource source, OutputStream encryptedB64Out) throws Exception {
+        logger.info("Request for streaming Auth Data Encryption.");
+        byte[] aesKey = null;
+        Cipher cipher = engines.aesGcm().acquire();
+        MessageDigest digest = engines.sha256().acquire();
         try {
-            JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
-                    .x509CertChain(Collections.singletonList(Base64URL.encode(signCert.getEncoded())))
-                    .keyID(Base64.encodeBase64URLSafeString(signCert.getEncoded()))
-                    .build();
+            SessionKey sessionKey = sessionKeyPool != null ? sessionKeyPool.take(keys) : newSessionKey(keys);
+            aesKey = sessionKey.getAesKey();
+            byte[] iv = new byte[GCM_IV_SIZE];
+            engines.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(aesKey, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
+
+            byte[] cipherChunk = new byte[cipher.getOutputSize(STREAM_CHUNK_SIZE)];
+            long[] plainLength = {0};
+            try (OutputStream encoded = STREAM_ENCODER.wrap(new NonClosingOutputStream(encryptedB64Out))) {
+                source.forEach((chunk, offset, length) -> {
+                    digest.update(chunk, offset, length);
+                    encoded.write(cipherChunk, 0, cipher.update(chunk, offset, length, cipherChunk));
+                    plainLength[0] += length;
+                });
+                encoded.write(cipherChunk, 0, cipher.doFinal(cipherChunk, 0));
+                encoded.write(iv);
+            }
+            if (plainLength[0] == 0) {
+                throw new IllegalArgumentException("Auth data cannot be null or empty");
+            }
+            logger.info("Encrypting Auth Data Completed.");
+
+            String hexStr = Hex.encodeHexString(digest.digest()).toUpperCase();
+            nextIv(iv);
+            String encAuthDataHashB64 = Base64.encodeBase64URLSafeString(symmetricEncrypt(hexStr.getBytes(), aesKey, iv));
 
-            JWSObject jwsObject = new JWSObject(header, new Payload(authRequestData));
-            JWSSigner signer = new RSASSASigner(signPrivateKey);
-            jwsObject.sign(signer);
+            logger.info("Generation of SHA256 Hash for the Auth Data completed.");
+            return new EncryptedAuthData(sessionKey.getWrappedKeyB64(), encAuthDataHashB64, plainLength[0]);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error encrypting Auth Data. Error Message: {}", e.getMessage(), e);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_003.name(), Errors.AUT_CRY_003.getMessage());
+        } finally {
+            if (aesKey != null) {
+                Arrays.fill(aesKey, (byte) 0);
+            }
+            digest.reset();
+            engines.sha256().release(digest);
+            engines.aesGcm().release(cipher);
+        }
+    }
+
+    /**
+     * Generates a fresh AES session key and wraps it for the active IDA certificate of {@code keys}. Each key must be
+     * used for exactly one request.
+     */
+    private SessionKey newSessionKey(KeySet keys) throws Exception {
+        byte[] aesKey = new byte[symmetricKeySize / 8];
+        engines.nextBytes(aesKey);
+        String wrappedKeyB64 = Base64.encodeBase64URLSafeString(asymmetricEncrypt(aesKey, keys.getActiveEncryptKey()));
+        logger.debug("Generated and wrapped a new AES session key.");
+        return new SessionKey(aesKey, wrappedKeyB64, keys.getEncryptThumbprint());
+    }
+
+    /**
+     * Metrics of the session key pool, or empty if {@code session_key_pool.enabled} is off.
+     */
+    public Optional<SessionKeyPoolStats> getSessionKeyPoolStats() {
+        return sessionKeyPool == null ? Optional.empty() : Optional.of(sessionKeyPool.stats());
+    }
+
+    public String signAuthRequestData(String authRequestData) throws Exception {
+        return signAuthRequestData(authRequestData.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String signAuthRequestData(byte[] authRequestData) throws Exception {
+        return signAuthRequestData(keySet.get(), authRequestData);
+    }
+
+    /**
+     * Signs with the active signing key of {@code keys}, the snapshot the caller took at the start of its request.
+     */
+    public String signAuthRequestData(KeySet keys, byte[] authRequestData) throws Exception {
+        return signDetached(keys, authRequestData, null);
+    }
+
+    /**
+     * Signs a request body held in segments, e.g. {@link SegmentedBuffer#segments()}, without joining them.
+     */
+    public String signAuthRequestData(List<ByteBuffer> authRequestData) throws Exception {
+        return signAuthRequestData(keySet.get(), authRequestData);
+    }
 
-            String[] jwsParts = jwsObject.serialize().split("\\.");
+    public String signAuthRequestData(KeySet keys, List<ByteBuffer> authRequestData) throws Exception {
+        return signDetached(keys, null, authRequestData);
+    }
+
+    private String signDetached(KeySet keys, byte[] data, List<ByteBuffer> segments) throws Exception {
+        logger.info("Request for Sign Auth Request Data.");
+        try {
+            DetachedJwsSigner jwsSigner = keys.getSigner();
+            String signature = data != null ? jwsSigner.sign(data) : jwsSigner.sign(segments);
             logger.info("Generation for JWS Signature completed.");
-            return jwsParts[0] + ".." + jwsParts[2];
+            return signature;
         } catch (Exception e) {
             logger.error("Error Signing data. Error: {}", e.getMessage(), e);
             throw new RuntimeException(
@@ -305,6 +480,95 @@ public class CryptoUtil {
     }
 
     public String getEncCertThumbprint() {
-        return this.encCertThumbprint;
+        return keySet.get().getEncryptThumbprint();
+    }
+
+    /**
+     * The keys new requests should use. Take it once per request and pass it to the {@code KeySet} overloads so that
+     * a rotation in the middle of the request cannot mix keys.
+     */
+    public KeySet getKeySet() {
+        return keySet.get();
+    }
+
+    /**
+     * Re-reads the configured certificate and keystore files and, if any of them changed, atomically swaps in a new
+     * {@link KeySet}. Requests already running keep the snapshot they took; readers never block. Session keys
+     * pre-generated for the old encryption certificate are discarded.
+     *
+     * @return {@code true} if the active keys changed
+     */
+    public boolean reloadKeys() throws Exception {
+        synchronized (rotationLock) {
+            KeySet current = keySet.get();
+            KeySet next = KeySet.load(encryptConfig, signConfig, keyMaterial, current, logger);
+            if (next.hasSameActiveKeys(current)) {
+                logger.debug("Key files unchanged, keeping key set version {}.", current.getVersion());
+                return false;
+            }
+            keySet.set(next);
+            if (sessionKeyPool != null && !next.getEncryptThumbprint().equals(current.getEncryptThumbprint())) {
+                sessionKeyPool.invalidate();
+            }
+            logger.info("Rotated to key set version {}: encryption certificate {}, signing certificate {}.",
+                    next.getVersion(), next.getEncryptThumbprint(), next.getSignCertificate().getSubjectX500Principal());
+            return true;
+        }
+    }
+
+    /**
+     * Points this instance at new key files, e.g. after a rotation that uses fresh file names, and swaps them in as
+     * {@link #reloadKeys()} does. The symmetric key size and signing algorithm are not changed.
+     */
+    public boolean rotateKeys(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig) throws Exception {
+        synchronized (rotationLock) {
+            this.encryptConfig = encryptConfig;
+            this.signConfig = signConfig;
+            return reloadKeys();
+        }
+    }
+
+    /**
+     * The certificate and keystore files the current key set was loaded from.
+     */
+    public List<Path> getKeyFiles() {
+        Config.EncryptConfig encrypt = encryptConfig;
+        Config.SignConfig sign = signConfig;
+        List<Path> files = new ArrayList<>(3);
+        files.add(Paths.get(encrypt.getEncrypt_cert_path()));
+        files.add(Paths.get(encrypt.getDecrypt_p12_file_path()));
+        if (!KeySet.isTokenKeyStore(sign)) {
+            files.add(Paths.get(sign.getSign_p12_file_path()));
+        }
+        return files;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSink {
+        void accept(byte[] chunk, int offset, int length) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSource {
+        void forEach(ChunkSink sink) throws Exception;
+    }
+
+    /**
+     * Lets the Base64 encoder flush its final quantum on close without closing the caller's stream.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorException;
+import auth.sdk.java.exceptions.Errors;
+
+import java.time.Duration;
+
+/**
+ * Time budget for one SDK call, carried from {@link auth.sdk.java.authenticator.Authenticator} through the
+ * encrypt and sign stages into {@link RestUtil}. Each stage calls {@link #check(String)} before starting so a
+ * request that has already run out of time is abandoned instead of being sent late.
+ * <p>
+ * Deadlines are based on {@link System#nanoTime()} and are immutable, so one instance can be shared by all
+ * stages and retries of the same call.
+ * </p>
+ */
+public final class Deadline {
+    private static final Deadline NONE = new Deadline(false, 0L);
+
+    private final boolean bounded;
+    private final long expiresAtNanos;
+
+    private Deadline(boolean bounded, long expiresAtNanos) {
+        this.bounded = bounded;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * A deadline that never expires; stages are then bounded only by the configured timeouts.
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(true, System.nanoTime() + budget.toNanos());
+    }
+
+    public static Deadline afterMillis(long budgetMillis) {
+        return after(Duration.ofMillis(budgetMillis));
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns the time left, never negative. Unbounded deadlines report {@code null}.
+     */
+    public Duration remaining() {
+        if (!bounded) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * Returns the smaller of the time left and {@code timeout}; {@code timeout} may be {@code null} for "no limit".
+     */
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        if (remaining == null) {
+            return timeout;
+        }
+        return timeout == null || remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Throws {@link Errors#AUT_TMO_001} if the deadline has passed before {@code stage} could start.
+     */
+    public void check(String stage) throws AuthenticatorException {
+        if (isExpired()) {
+            throw new AuthenticatorException(Errors.AUT_TMO_001.name(), Errors.AUT_TMO_001.getMessage(stage));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package auth.sdk.java.utils;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.util.Base64URL;
+import org.apache.commons.codec.binary.Base64;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Produces the detached RS256 JWS ({@code header..signature}) sent in the {@code Signature} header.
+ * <p>
+ * The protected header only depends on the signing certificate, so it is built with Nimbus and Base64URL encoded
+ * once per certificate. Each call then feeds {@code header "." base64url(payload)} straight into a pooled
+ * {@code SHA256withRSA} {@link Signature}, encoding the payload in small chunks on the way. The attached JWS and the
+ * encoded payload are never materialised, which matters for multi-megabyte biometric requests.
+ * </p>
+ * <p>
+ * The output is byte-for-byte what {@code JWSObject.sign(new RSASSASigner(key))} followed by dropping the payload
+ * segment produces, since RS256 signatures are deterministic.
+ * </p>
+ */
+final class DetachedJwsSigner {
+    private static final String JCA_ALGORITHM = "SHA256withRSA";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final java.util.Base64.Encoder PAYLOAD_ENCODER = java.util.Base64.getUrlEncoder().withoutPadding();
+
+    private final PrivateKey signingKey;
+    private final Provider provider;
+    private final byte[] signingInputPrefix;
+    private final String headerB64;
+    private final EnginePool<Signature> signatures;
+
+    DetachedJwsSigner(PrivateKey signingKey, X509Certificate signCert) throws CertificateEncodingException {
+        this(signingKey, signCert, null);
+    }
+
+    /**
+     * @param provider provider of the {@code SHA256withRSA} engine, e.g. the PKCS#11 provider holding
+     *                 {@code signingKey}; {@code null} lets the JDK pick one that accepts the key
+     */
+    DetachedJwsSigner(PrivateKey signingKey, X509Certificate signCert, Provider provider) throws CertificateEncodingException {
+        byte[] encodedCert = signCert.getEncoded();
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .x509CertChain(Collections.singletonList(Base64URL.encode(encodedCert)))
+                .keyID(Base64.encodeBase64URLSafeString(encodedCert))
+                .build();
+
+        this.signingKey = signingKey;
+        this.headerB64 = header.toBase64URL().toString();
+        this.signingInputPrefix = (headerB64 + ".").getBytes(StandardCharsets.US_ASCII);
+        this.provider = provider;
+        this.signatures = new EnginePool<>(
+                () -> provider == null ? Signature.getInstance(JCA_ALGORITHM) : Signature.getInstance(JCA_ALGORITHM, provider),
+                Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    boolean usesKey(PrivateKey key, Provider provider) {
+        return signingKey.equals(key) && Objects.equals(this.provider, provider);
+    }
+
+    String sign(byte[] payload) throws GeneralSecurityException {
+        return sign(payload, 0, payload.length);
+    }
+
+    String sign(byte[] payload, int offset, int length) throws GeneralSecurityException {
+        return sign(encoded -> encoded.write(payload, offset, length));
+    }
+
+    /**
+     * Signs the concatenation of {@code payload}, e.g. the segments of a pooled request body. The buffers' positions
+     * are not modified.
+     */
+    String sign(Iterable<ByteBuffer> payload) throws GeneralSecurityException {
+        return sign(encoded -> {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            for (ByteBuffer buffer : payload) {
+                ByteBuffer source = buffer.duplicate();
+                while (source.hasRemaining()) {
+                    int length = Math.min(chunk.length, source.remaining());
+                    source.get(chunk, 0, length);
+                    encoded.write(chunk, 0, length);
+                }
+            }
+        });
+    }
+
+    private String sign(PayloadWriter payload) throws GeneralSecurityException {
+        Signature signature = signatures.acquire();
+        try {
+            signature.initSign(signingKey);
+            signature.update(signingInputPrefix);
+            try (OutputStream encoded = PAYLOAD_ENCODER.wrap(new SignatureOutputStream(signature))) {
+                payload.writeTo(encoded);
+            } catch (IOException e) {
+                if (e.getCause() instanceof SignatureException) {
+                    throw (SignatureException) e.getCause();
+                }
+                throw new UncheckedIOException(e);
+            }
+            return headerB64 + ".." + PAYLOAD_ENCODER.encodeToString(signature.sign());
+        } finally {
+            signatures.release(signature);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void writeTo(OutputStream encoded) throws IOException;
+    }
+
+    /**
+     * Feeds everything written to it into a {@link Signature}, for signing or verification.
+     */
+    static final class SignatureOutputStream extends OutputStream {
+        private final Signature signature;
+
+        SignatureOutputStream(Signature signature) {
+            this.signature = signature;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                signature.update((byte) b);
+            } catch (SignatureException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                signature.update(b, off, len);
+            } catch (SignatureException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
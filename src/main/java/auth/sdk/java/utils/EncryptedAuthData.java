@@ -0,0 +1,20 @@
+package auth.sdk.java.utils;
+
+import lombok.Getter;
+
+/**
+ * Key and integrity fields produced by a streaming {@link CryptoUtil#encryptAuthData(java.io.InputStream, java.io.OutputStream)},
+ * whose encrypted {@code request} itself has already been written to the caller's stream.
+ */
+@Getter
+public final class EncryptedAuthData {
+    private final String requestSessionKey;
+    private final String requestHMAC;
+    private final long plainLength;
+
+    EncryptedAuthData(String requestSessionKey, String requestHMAC, long plainLength) {
+        this.requestSessionKey = requestSessionKey;
+        this.requestHMAC = requestHMAC;
+        this.plainLength = plainLength;
+    }
+}
@@ -0,0 +1,52 @@
+package auth.sdk.java.utils;
+
+import java.security.GeneralSecurityException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of reusable, non-thread-safe JCA engines ({@link javax.crypto.Cipher}, {@link java.security.MessageDigest},
+ * ...). An engine is owned by exactly one caller between {@link #acquire()} and {@link #release(Object)}.
+ * <p>
+ * The pool never blocks: when it is empty a new engine is created, and when it already holds {@code maxIdle}
+ * engines a released one is simply dropped. This keeps the number of live engines close to the number of threads
+ * actually doing crypto at once, which for virtual-thread callers is far smaller than the number of threads.
+ * </p>
+ *
+ * @param <T> the engine type
+ */
+final class EnginePool<T> {
+
+    @FunctionalInterface
+    interface Factory<T> {
+        T create() throws GeneralSecurityException;
+    }
+
+    private final Factory<T> factory;
+    private final int maxIdle;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    EnginePool(Factory<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    T acquire() throws GeneralSecurityException {
+        T engine = idle.poll();
+        if (engine != null) {
+            idleCount.decrementAndGet();
+            return engine;
+        }
+        return factory.create();
+    }
+
+    void release(T engine) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(engine);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorCryptoException;
+import auth.sdk.java.exceptions.Errors;
+import org.slf4j.Logger;
+
+import java.security.Provider;
+import java.security.Security;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the JCA providers named in the configuration.
+ * <p>
+ * A name is first looked up among the installed providers ({@code SunJCE}, {@code SunPKCS11}, ...), then treated as
+ * the class name of a {@link Provider} with a public no-argument constructor, which is instantiated and installed.
+ * When a configuration argument is given, e.g. the path of a SunPKCS11 config file for a SoftHSM token, the
+ * provider is {@link Provider#configure configured} with it and the configured instance is installed.
+ * </p>
+ * <p>
+ * Resolved providers are cached per name and argument, so every {@link CryptoUtil} in the JVM and every key rotation
+ * shares one configured PKCS#11 provider, and with it one session to the token. An empty name means the JDK's default
+ * provider order, expressed as {@code null}.
+ * </p>
+ */
+final class JcaProviders {
+    private static final ConcurrentMap<String, Provider> RESOLVED = new ConcurrentHashMap<>();
+
+    private JcaProviders() {
+    }
+
+    static Provider resolve(String name, String configArg, Logger logger) throws AuthenticatorCryptoException {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String key = configArg == null || configArg.isBlank() ? name.trim() : name.trim() + '|' + configArg.trim();
+        Provider cached = RESOLVED.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (RESOLVED) {
+            cached = RESOLVED.get(key);
+            if (cached == null) {
+                cached = load(name.trim(), configArg == null || configArg.isBlank() ? null : configArg.trim(), logger);
+                RESOLVED.put(key, cached);
+            }
+            return cached;
+        }
+    }
+
+    private static Provider load(String name, String configArg, Logger logger) throws AuthenticatorCryptoException {
+        try {
+            Provider provider = Security.getProvider(name);
+            boolean installed = provider != null;
+            if (provider == null) {
+                provider = (Provider) Class.forName(name).getDeclaredConstructor().newInstance();
+            }
+            if (configArg != null) {
+                provider = provider.configure(configArg);
+                installed = false;
+            }
+            if (!installed && Security.getProvider(provider.getName()) == null) {
+                Security.addProvider(provider);
+            }
+            logger.info("Using JCA provider {} for {}.", provider.getName(), name);
+            return provider;
+        } catch (Exception | LinkageError e) {
+            logger.error("Error loading JCA provider {}. Error Message: {}", name, e.getMessage(), e);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_006.name(), Errors.AUT_CRY_006.getMessage(name));
+        }
+    }
+}
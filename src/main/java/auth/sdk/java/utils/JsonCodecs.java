@@ -0,0 +1,102 @@
+package auth.sdk.java.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The SDK's single Jackson configuration, and the {@link ObjectWriter}s and {@link ObjectReader}s derived from it.
+ * <p>
+ * Building an {@code ObjectMapper} and having it introspect a model class costs far more than serializing a typical
+ * request, and the per-call mappers the models used to create threw that work away every time. Here the mapper is
+ * built once, and the writer and reader for each type are created on first use and cached. Writers and readers are
+ * immutable and thread-safe, and keep the serializers they resolved, so every later call goes straight to writing.
+ * </p>
+ * <p>
+ * When Jackson's Blackbird module (or, failing that, Afterburner) is on the classpath it is registered, replacing
+ * reflective getter calls with generated accessors. Neither is a required dependency; set the system property
+ * {@code auth.sdk.java.json.accessorModule=none} to leave them out even when present.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public final class JsonCodecs {
+    private static final Logger logger = LoggerFactory.getLogger(JsonCodecs.class);
+    private static final String[] ACCESSOR_MODULES = {
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ObjectReader MAP_READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+    private static final ObjectReader TREE_READER = MAPPER.reader();
+
+    private JsonCodecs() {
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        if ("none".equalsIgnoreCase(System.getProperty("auth.sdk.java.json.accessorModule"))) {
+            return mapper;
+        }
+        for (String moduleClass : ACCESSOR_MODULES) {
+            try {
+                mapper.registerModule((Module) Class.forName(moduleClass).getDeclaredConstructor().newInstance());
+                logger.debug("Registered Jackson module {}", moduleClass);
+                break;
+            } catch (ClassNotFoundException e) {
+                // not on the classpath, try the next one
+            } catch (Exception | LinkageError e) {
+                logger.warn("Could not register Jackson module {}: {}", moduleClass, e.getMessage());
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * Writer for values of {@code type}.
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * Reader producing values of {@code type}.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * Reader producing a {@code Map<String, Object>}.
+     */
+    public static ObjectReader mapReader() {
+        return MAP_READER;
+    }
+
+    /**
+     * Reader for {@link ObjectReader#readTree} into a {@link com.fasterxml.jackson.databind.JsonNode}.
+     */
+    public static ObjectReader treeReader() {
+        return TREE_READER;
+    }
+
+    /**
+     * Factory for streaming parsers and generators whose codec is the shared mapper.
+     */
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+}
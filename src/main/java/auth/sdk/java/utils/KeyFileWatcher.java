@@ -0,0 +1,112 @@
+package auth.sdk.java.utils;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the certificate and keystore files and runs a reload when any of them is created or modified.
+ * <p>
+ * The parent directories are watched rather than the files, so both in-place writes and the usual
+ * write-to-temp-then-rename deployment are seen. So is a Kubernetes Secret or ConfigMap volume, where each file is a
+ * symlink through {@code ..data} and an update swaps only that link: a change to {@code ..data} in a watched
+ * directory counts as a change to every watched file in it. Events are debounced: the reload runs once no further change has
+ * arrived for {@code debounceMillis}, so a rotation that replaces several files at once causes one swap. A failing
+ * reload is logged and the current keys stay in use.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public final class KeyFileWatcher implements AutoCloseable {
+    private static final Path ATOMIC_WRITER_LINK = Path.of("..data");
+
+    @FunctionalInterface
+    public interface Reload {
+        boolean reload() throws Exception;
+    }
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Set<Path>> watchedNames = new HashMap<>();
+    private final long debounceMillis;
+    private final Reload reload;
+    private final Logger logger;
+    private final Thread thread;
+
+    public KeyFileWatcher(List<Path> files, long debounceMillis, Reload reload, Logger logger) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.reload = reload;
+        this.logger = logger;
+
+        Map<Path, Set<Path>> namesByDirectory = new HashMap<>();
+        for (Path file : files) {
+            Path absolute = file.toAbsolutePath().normalize();
+            namesByDirectory.computeIfAbsent(absolute.getParent(), dir -> new HashSet<>()).add(absolute.getFileName());
+        }
+        for (Map.Entry<Path, Set<Path>> entry : namesByDirectory.entrySet()) {
+            WatchKey key = entry.getKey().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedNames.put(key, entry.getValue());
+            logger.info("Watching {} in {} for key rotation.", entry.getValue(), entry.getKey());
+        }
+
+        this.thread = Thread.ofPlatform().daemon().name("ida-key-file-watcher").start(this::run);
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!isRelevant(watchService.take())) {
+                    continue;
+                }
+                // Wait until the files have been quiet for the debounce period
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isRelevant(next);
+                }
+                try {
+                    if (reload.reload()) {
+                        logger.info("Key files changed on disk, new keys are active.");
+                    }
+                } catch (Exception e) {
+                    logger.error("Reloading key files failed, keeping the current keys: {}", e.getMessage(), e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        Set<Path> names = watchedNames.getOrDefault(key, Set.of());
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || names.contains((Path) event.context())
+                    || ATOMIC_WRITER_LINK.equals(event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
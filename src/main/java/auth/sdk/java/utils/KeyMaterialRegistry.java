@@ -0,0 +1,314 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorCryptoException;
+import auth.sdk.java.exceptions.Errors;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Enumeration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses certificate and PKCS12 files once and hands out the parsed objects.
+ * <p>
+ * Files are remembered by path together with their size, modification time and the SHA-256 of their content, so
+ * asking again for an unchanged file does not even re-read it. Parsed material is memoized by path and content hash,
+ * so a keystore configured for both decryption and signing is decrypted once. A file that changes on disk is re-read
+ * and parsed again on the next request, and the material parsed from its old content is dropped. File content is
+ * only held while it is parsed, and passwords are never used as cache keys.
+ * </p>
+ * <p>
+ * Values derived from the parsed material, such as the certificate thumbprint, are computed on first use.
+ * {@link #getDefault()} is shared by every {@link CryptoUtil} in the JVM.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public final class KeyMaterialRegistry {
+    private static final KeyMaterialRegistry DEFAULT = new KeyMaterialRegistry();
+
+    private final ConcurrentMap<Path, FileStamp> stamps = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CertificateMaterial> certificates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, KeyStoreMaterial> keyStores = new ConcurrentHashMap<>();
+
+    public static KeyMaterialRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * The X.509 certificate in {@code certPath} (PEM or DER).
+     */
+    public CertificateMaterial certificate(String certPath, Logger logger) throws AuthenticatorCryptoException {
+        try {
+            FileRead read = read(certPath);
+            CertificateMaterial material = certificates.get(read.key());
+            if (material == null) {
+                read = read.withContent();
+                logger.info("Creating certificate object for the file path: {}", certPath);
+                CertificateFactory factory = CertificateFactory.getInstance("X.509");
+                X509Certificate certificate = (X509Certificate) factory.generateCertificate(new ByteArrayInputStream(read.content));
+                material = certificates.computeIfAbsent(read.key(), key -> new CertificateMaterial(certificate));
+            }
+            return material;
+        } catch (Exception e) {
+            logger.error("Error reading certificate file. Error Message: {}", e.getMessage(), e);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_001.name(), Errors.AUT_CRY_001.getMessage(certPath));
+        }
+    }
+
+    /**
+     * The first private key entry and its certificate in the PKCS12 file {@code p12FilePath}.
+     */
+    public KeyStoreMaterial keyStore(String p12FilePath, String p12FilePassword, Logger logger) throws AuthenticatorCryptoException {
+        try {
+            FileRead read = read(p12FilePath);
+            KeyStoreMaterial material = keyStores.get(read.key());
+            // A cached keystore is only handed out for the password it was opened with
+            if (material == null || !material.opensWith(p12FilePassword)) {
+                read = read.withContent();
+                logger.info("Reading P12 file. File Path: {}", p12FilePath);
+                KeyStore keyStore = KeyStore.getInstance("PKCS12");
+                keyStore.load(new ByteArrayInputStream(read.content), p12FilePassword.toCharArray());
+
+                String alias = keyStore.aliases().nextElement();
+                PrivateKey privateKey = (PrivateKey) keyStore.getKey(alias, p12FilePassword.toCharArray());
+                X509Certificate certificate = (X509Certificate) keyStore.getCertificate(alias);
+                KeyStoreMaterial loaded = new KeyStoreMaterial(privateKey, new CertificateMaterial(certificate), p12FilePassword);
+                keyStores.put(read.key(), loaded);
+                material = loaded;
+            }
+            return material;
+        } catch (Exception e) {
+            logger.error("Error Loading P12 file to create objects. Error: {}", e.getMessage(), e);
+            throw new AuthenticatorCryptoException(
+                    Errors.AUT_CRY_002.name(),
+                    Errors.AUT_CRY_002.getMessage(p12FilePath)
+            );
+        }
+    }
+
+    /**
+     * A private key and its certificate from a provider-backed key store such as a PKCS#11 token, which has no file
+     * to hash. Memoized by provider, type and alias; {@link #clear()} forces the token to be read again.
+     *
+     * @param alias the key entry to use, or empty for the first key entry in the store
+     * @param pin   the token PIN
+     */
+    public KeyStoreMaterial tokenKeyStore(String type, Provider provider, String alias, String pin, Logger logger) throws AuthenticatorCryptoException {
+        String providerName = provider != null ? provider.getName() : "default";
+        String key = "token:" + providerName + ':' + type + ':' + (alias == null ? "" : alias);
+        KeyStoreMaterial material = keyStores.get(key);
+        if (material != null) {
+            return material;
+        }
+        try {
+            logger.info("Reading {} key store of provider {}.", type, providerName);
+            KeyStore keyStore = provider != null ? KeyStore.getInstance(type, provider) : KeyStore.getInstance(type);
+            char[] password = pin != null ? pin.toCharArray() : null;
+            keyStore.load(null, password);
+
+            String entry = alias;
+            if (entry == null || entry.isBlank()) {
+                entry = null;
+                for (Enumeration<String> aliases = keyStore.aliases(); aliases.hasMoreElements() && entry == null; ) {
+                    String candidate = aliases.nextElement();
+                    if (keyStore.isKeyEntry(candidate)) {
+                        entry = candidate;
+                    }
+                }
+            }
+            PrivateKey privateKey = entry != null ? (PrivateKey) keyStore.getKey(entry, password) : null;
+            X509Certificate certificate = entry != null ? (X509Certificate) keyStore.getCertificate(entry) : null;
+            if (privateKey == null || certificate == null) {
+                throw new KeyStoreException("No private key with a certificate found for alias " + entry);
+            }
+            KeyStoreMaterial loaded = new KeyStoreMaterial(privateKey, new CertificateMaterial(certificate), null);
+            return keyStores.computeIfAbsent(key, k -> loaded);
+        } catch (Exception e) {
+            logger.error("Error Loading {} key store of provider {}. Error: {}", type, providerName, e.getMessage(), e);
+            throw new AuthenticatorCryptoException(
+                    Errors.AUT_CRY_007.name(),
+                    Errors.AUT_CRY_007.getMessage(alias, type, providerName)
+            );
+        }
+    }
+
+    /**
+     * Forgets every file and parsed object, e.g. to measure a cold start.
+     */
+    public void clear() {
+        stamps.clear();
+        certificates.clear();
+        keyStores.clear();
+    }
+
+    /**
+     * The current stamp of {@code filePath}. The content comes along only if the file had to be read to find out
+     * whether it changed.
+     */
+    private FileRead read(String filePath) throws Exception {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        FileStamp stamp = stamps.get(path);
+        if (stamp != null && stamp.modified == modified && stamp.size == size) {
+            return new FileRead(path, stamp, null);
+        }
+        return record(path, modified, size, Files.readAllBytes(path));
+    }
+
+    private FileRead record(Path path, long modified, long size, byte[] content) throws Exception {
+        FileStamp stamp = new FileStamp(modified, size, sha256Hex(content));
+        FileStamp replaced = stamps.put(path, stamp);
+        if (replaced != null && !replaced.contentHash.equals(stamp.contentHash)) {
+            // The file was rotated: nothing asks for the material parsed from its old content any more
+            String stale = key(path, replaced);
+            certificates.remove(stale);
+            keyStores.remove(stale);
+        }
+        return new FileRead(path, stamp, content);
+    }
+
+    private static String key(Path path, FileStamp stamp) {
+        return stamp.contentHash + ':' + path;
+    }
+
+    private static String sha256Hex(byte[] data) throws Exception {
+        return Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    /**
+     * Size, modification time and content hash of a file as last read.
+     */
+    private static final class FileStamp {
+        private final long modified;
+        private final long size;
+        private final String contentHash;
+
+        private FileStamp(long modified, long size, String contentHash) {
+            this.modified = modified;
+            this.size = size;
+            this.contentHash = contentHash;
+        }
+    }
+
+    /**
+     * A file's stamp for one lookup, with the content if it was read along the way. Never stored.
+     */
+    private final class FileRead {
+        private final Path path;
+        private final FileStamp stamp;
+        private final byte[] content;
+
+        private FileRead(Path path, FileStamp stamp, byte[] content) {
+            this.path = path;
+            this.stamp = stamp;
+            this.content = content;
+        }
+
+        private String key() {
+            return KeyMaterialRegistry.key(path, stamp);
+        }
+
+        /**
+         * This read with content, reading the file now if needed. The stamp is recorded again from what was read, so
+         * the parsed material is cached under the hash of exactly the bytes it came from.
+         */
+        private FileRead withContent() throws Exception {
+            if (content != null) {
+                return this;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return record(path, attributes.lastModifiedTime().toMillis(), attributes.size(), Files.readAllBytes(path));
+        }
+    }
+
+    /**
+     * A parsed certificate with its SHA-256 thumbprint computed on first use.
+     */
+    public static final class CertificateMaterial {
+        private final X509Certificate certificate;
+        private volatile String thumbprint;
+
+        private CertificateMaterial(X509Certificate certificate) {
+            this.certificate = certificate;
+        }
+
+        public X509Certificate getCertificate() {
+            return certificate;
+        }
+
+        /**
+         * Base64URL (unpadded) SHA-256 of the DER encoding, as sent in the {@code thumbprint} request field.
+         */
+        public String getThumbprint() throws Exception {
+            String value = thumbprint;
+            if (value == null) {
+                value = Base64.encodeBase64URLSafeString(MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+                thumbprint = value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The private key and certificate of one PKCS12 entry.
+     */
+    public static final class KeyStoreMaterial {
+        private final PrivateKey privateKey;
+        private final CertificateMaterial certificate;
+        private final byte[] passwordSalt;
+        private final byte[] passwordHash;
+
+        private KeyStoreMaterial(PrivateKey privateKey, CertificateMaterial certificate, String password) throws Exception {
+            this.privateKey = privateKey;
+            this.certificate = certificate;
+            if (password != null) {
+                this.passwordSalt = new byte[16];
+                new SecureRandom().nextBytes(passwordSalt);
+                this.passwordHash = saltedHash(passwordSalt, password);
+            } else {
+                // Token key stores are memoized without a password
+                this.passwordSalt = null;
+                this.passwordHash = null;
+            }
+        }
+
+        private boolean opensWith(String password) throws Exception {
+            return passwordHash != null && MessageDigest.isEqual(passwordHash, saltedHash(passwordSalt, password));
+        }
+
+        private static byte[] saltedHash(byte[] salt, String password) throws Exception {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public PrivateKey getPrivateKey() {
+            return privateKey;
+        }
+
+        public CertificateMaterial getCertificate() {
+            return certificate;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorCryptoException;
+import auth.sdk.java.exceptions.Errors;
+import org.slf4j.Logger;
+
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the keys {@link CryptoUtil} works with: the active IDA encryption certificate, the partner
+ * decryption keys and the active partner signing key.
+ * <p>
+ * Encryption certificates are indexed by thumbprint. A rotation keeps the certificate it replaced, so a request that
+ * started under the previous snapshot can still be matched to its key, and keeps the previous decryption key, so KYC
+ * replies encrypted for the old partner certificate can still be read. Only one generation is retained.
+ * </p>
+ * <p>
+ * A request takes one snapshot from {@link CryptoUtil#getKeySet()} and uses it for the thumbprint, the session key
+ * wrap and the signature, so the three always agree even if a rotation happens halfway through.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public final class KeySet {
+    private final long version;
+    private final Instant loadedAt;
+    private final String encryptThumbprint;
+    private final Map<String, RSAPublicKey> encryptKeys;
+    private final List<RSAPrivateKey> decryptKeys;
+    private final X509Certificate signCertificate;
+    private final DetachedJwsSigner signer;
+
+    private KeySet(long version, String encryptThumbprint, Map<String, RSAPublicKey> encryptKeys,
+                   List<RSAPrivateKey> decryptKeys, X509Certificate signCertificate, DetachedJwsSigner signer) {
+        this.version = version;
+        this.loadedAt = Instant.now();
+        this.encryptThumbprint = encryptThumbprint;
+        this.encryptKeys = Collections.unmodifiableMap(encryptKeys);
+        this.decryptKeys = Collections.unmodifiableList(decryptKeys);
+        this.signCertificate = signCertificate;
+        this.signer = signer;
+    }
+
+    /**
+     * Loads the files named in the configuration through {@code keyMaterial}. When {@code previous} is given, its
+     * active encryption certificate and decryption key are retained behind the new ones.
+     */
+    static KeySet load(Config.EncryptConfig encryptConfig, Config.SignConfig signConfig, KeyMaterialRegistry keyMaterial,
+                       KeySet previous, Logger logger) throws Exception {
+        KeyMaterialRegistry.CertificateMaterial encryptCert = keyMaterial.certificate(encryptConfig.getEncrypt_cert_path(), logger);
+        String thumbprint;
+        logger.info("Calculating thumbprint for certificate: {}", encryptConfig.getEncrypt_cert_path());
+        try {
+            thumbprint = encryptCert.getThumbprint();
+        } catch (Exception e) {
+            logger.error("Error calculating thumbprint for certificate: {}", encryptConfig.getEncrypt_cert_path(), e);
+            throw new AuthenticatorCryptoException(
+                    Errors.AUT_CRY_001.name(),
+                    Errors.AUT_CRY_001.getMessage(encryptConfig.getEncrypt_cert_path())
+            );
+        }
+
+        RSAPrivateKey decryptKey = (RSAPrivateKey) keyMaterial.keyStore(
+                encryptConfig.getDecrypt_p12_file_path(),
+                encryptConfig.getDecrypt_p12_file_password(),
+                logger
+        ).getPrivateKey();
+
+        Provider signProvider = JcaProviders.resolve(signConfig.getSign_provider(), signConfig.getSign_provider_config(), logger);
+        KeyMaterialRegistry.KeyStoreMaterial signKeyStore = isTokenKeyStore(signConfig)
+                ? keyMaterial.tokenKeyStore(
+                        signConfig.getSign_keystore_type(),
+                        signProvider,
+                        signConfig.getSign_key_alias(),
+                        signConfig.getSign_p12_file_password(),
+                        logger)
+                : keyMaterial.keyStore(
+                        signConfig.getSign_p12_file_path(),
+                        signConfig.getSign_p12_file_password(),
+                        logger);
+        // Token keys are usually not extractable and need not implement RSAPrivateKey
+        PrivateKey signKey = signKeyStore.getPrivateKey();
+        X509Certificate signCert = signKeyStore.getCertificate().getCertificate();
+
+        Map<String, RSAPublicKey> encryptKeys = new LinkedHashMap<>();
+        encryptKeys.put(thumbprint, (RSAPublicKey) encryptCert.getCertificate().getPublicKey());
+        List<RSAPrivateKey> decryptKeys = new ArrayList<>(2);
+        decryptKeys.add(decryptKey);
+        DetachedJwsSigner signer;
+        long version = 1;
+        if (previous != null) {
+            version = previous.version + 1;
+            encryptKeys.putIfAbsent(previous.encryptThumbprint, previous.getActiveEncryptKey());
+            if (!previous.decryptKeys.get(0).equals(decryptKey)) {
+                decryptKeys.add(previous.decryptKeys.get(0));
+            }
+            signer = previous.signCertificate.equals(signCert) && previous.signer.usesKey(signKey, signProvider)
+                    ? previous.signer
+                    : new DetachedJwsSigner(signKey, signCert, signProvider);
+        } else {
+            signer = new DetachedJwsSigner(signKey, signCert, signProvider);
+        }
+        return new KeySet(version, thumbprint, encryptKeys, decryptKeys, signCert, signer);
+    }
+
+    /**
+     * Whether the signing key lives in a provider key store such as a PKCS#11 token rather than a PKCS12 file.
+     */
+    static boolean isTokenKeyStore(Config.SignConfig signConfig) {
+        String type = signConfig.getSign_keystore_type();
+        return type != null && !type.isBlank() && !"PKCS12".equalsIgnoreCase(type.trim());
+    }
+
+    /**
+     * Whether {@code other} holds exactly the same active keys, i.e. a reload found nothing new.
+     */
+    boolean hasSameActiveKeys(KeySet other) {
+        return encryptThumbprint.equals(other.encryptThumbprint)
+                && decryptKeys.get(0).equals(other.decryptKeys.get(0))
+                && signCertificate.equals(other.signCertificate)
+                && signer == other.signer;
+    }
+
+    /**
+     * Increases by one with every rotation, starting at {@code 1}.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Thumbprint of the active IDA encryption certificate, as sent in the {@code thumbprint} request field.
+     */
+    public String getEncryptThumbprint() {
+        return encryptThumbprint;
+    }
+
+    /**
+     * Thumbprints of every encryption certificate in this set, active first.
+     */
+    public Set<String> getEncryptThumbprints() {
+        return encryptKeys.keySet();
+    }
+
+    public X509Certificate getSignCertificate() {
+        return signCertificate;
+    }
+
+    RSAPublicKey getActiveEncryptKey() {
+        return encryptKeys.get(encryptThumbprint);
+    }
+
+    RSAPublicKey getEncryptKey(String thumbprint) {
+        return encryptKeys.get(thumbprint);
+    }
+
+    /**
+     * Partner decryption keys, active first.
+     */
+    List<RSAPrivateKey> getDecryptKeys() {
+        return decryptKeys;
+    }
+
+    DetachedJwsSigner getSigner() {
+        return signer;
+    }
+}
@@ -0,0 +1,45 @@
+package auth.sdk.java.utils;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent successful call latencies for one endpoint and periodically recomputes a percentile
+ * from them, so reading the hedging threshold on the request path is a single volatile read.
+ */
+class LatencyTracker {
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples;
+    private final int percentile;
+    private final int minimumSamples;
+    private int count;
+    private int next;
+    private volatile long thresholdMillis = -1;
+
+    LatencyTracker(int windowSize, int percentile, int minimumSamples) {
+        this.samples = new long[Math.max(1, windowSize)];
+        this.percentile = percentile;
+        this.minimumSamples = Math.min(minimumSamples, samples.length);
+    }
+
+    synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= minimumSamples && next % RECOMPUTE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            thresholdMillis = sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+
+    /**
+     * Returns the current percentile in milliseconds, or {@code -1} until enough samples have been seen.
+     */
+    long threshold() {
+        return thresholdMillis;
+    }
+}
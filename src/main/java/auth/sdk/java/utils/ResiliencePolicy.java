@@ -0,0 +1,281 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorException;
+import auth.sdk.java.exceptions.Errors;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Retry, hedging and circuit breaker policy applied by {@link RestUtil} to every IDA call.
+ * <p>
+ * This class provides:
+ * <ul>
+ *   <li>Bounded retries with full-jitter exponential backoff. Only failures where IDA cannot have processed
+ *   the request are retried: connection refused, connect timeout, HTTP 429 and HTTP 503.</li>
+ *   <li>Optional hedging: if a call is still outstanding after the endpoint's recent latency percentile (but never
+ *   sooner than {@value #MIN_HEDGE_DELAY_MILLIS} ms), the same signed request is sent once more and whichever reply
+ *   arrives first wins. Both copies reach IDA, so only calls the caller marks as hedgeable are hedged; requests that
+ *   generate or carry an OTP must not be. Hedging doubles load on slow calls and is off by default.</li>
+ *   <li>A per-endpoint {@link CircuitBreaker} that fails fast with {@link Errors#AUT_NET_001} while the
+ *   endpoint is unhealthy, publishing every state change to the registered {@link CircuitBreakerListener}s.
+ *   Calls cut short by the caller's own {@link Deadline} are not counted against the endpoint.</li>
+ * </ul>
+ * </p>
+ */
+public class ResiliencePolicy {
+    private static final int LATENCY_WINDOW = 512;
+    private static final long MIN_HEDGE_DELAY_MILLIS = 20;
+
+    private final Logger logger;
+    private final int maxRetries;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final boolean hedgingEnabled;
+    private final int hedgingPercentile;
+    private final int hedgingMinSamples;
+    private final boolean circuitBreakerEnabled;
+    private final Config.Resilience config;
+
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ResiliencePolicy(Config.Resilience config, Logger logger) {
+        this.logger = logger;
+        this.config = config;
+        if (config == null) {
+            this.maxRetries = 0;
+            this.baseBackoffMillis = 0;
+            this.maxBackoffMillis = 0;
+            this.hedgingEnabled = false;
+            this.hedgingPercentile = 0;
+            this.hedgingMinSamples = 0;
+            this.circuitBreakerEnabled = false;
+        } else {
+            this.maxRetries = Math.max(0, config.getMax_retries());
+            this.baseBackoffMillis = config.getRetry_base_backoff_ms();
+            this.maxBackoffMillis = config.getRetry_max_backoff_ms();
+            this.hedgingEnabled = config.isHedging_enabled();
+            this.hedgingPercentile = config.getHedging_percentile();
+            this.hedgingMinSamples = config.getHedging_min_samples();
+            this.circuitBreakerEnabled = config.isCircuit_breaker_enabled();
+        }
+    }
+
+    public void addListener(CircuitBreakerListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(CircuitBreakerListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the breaker state for an endpoint, or {@link CircuitBreaker.State#CLOSED} if it has not been called yet.
+     */
+    public CircuitBreaker.State getState(String endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.getState();
+    }
+
+    /**
+     * Runs {@code call} under this policy, without hedging. The supplier is invoked once per attempt, so it must be
+     * safe to send the same request repeatedly.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> execute(String endpoint, Supplier<CompletableFuture<HttpResponse<byte[]>>> call) {
+        return execute(endpoint, Deadline.none(), call);
+    }
+
+    /**
+     * Same as {@link #execute(String, Supplier)}, but a retry is only scheduled if its backoff still fits
+     * inside {@code deadline}; otherwise the last failure is returned as-is.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> execute(String endpoint, Deadline deadline,
+                                                           Supplier<CompletableFuture<HttpResponse<byte[]>>> call) {
+        return execute(endpoint, deadline, false, call);
+    }
+
+    /**
+     * Same as {@link #execute(String, Deadline, Supplier)}, and when {@code hedgeable} is {@code true} and hedging is
+     * enabled a slow attempt may be sent a second time. Only pass {@code true} for requests IDA can safely receive
+     * twice; never for one that generates or carries an OTP.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> execute(String endpoint, Deadline deadline, boolean hedgeable,
+                                                           Supplier<CompletableFuture<HttpResponse<byte[]>>> call) {
+        CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+        attempt(endpoint, deadline, hedgeable, call, 0, result);
+        return result;
+    }
+
+    private void attempt(String endpoint, Deadline deadline, boolean hedgeable, Supplier<CompletableFuture<HttpResponse<byte[]>>> call,
+                         int attemptNo, CompletableFuture<HttpResponse<byte[]>> result) {
+        try {
+            deadline.check("send");
+        } catch (AuthenticatorException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        CircuitBreaker breaker = circuitBreakerEnabled ? breakers.computeIfAbsent(endpoint, this::newBreaker) : null;
+        if (breaker != null && !breaker.tryAcquire()) {
+            result.completeExceptionally(new AuthenticatorException(
+                    Errors.AUT_NET_001.name(), Errors.AUT_NET_001.getMessage(endpoint)));
+            return;
+        }
+
+        long start = System.nanoTime();
+        hedged(endpoint, hedgeable, call).whenComplete((response, error) -> {
+            Throwable cause = unwrap(error);
+            boolean failed = cause != null || response.statusCode() >= 500;
+            if (breaker != null) {
+                if (failed && isOwnTimeout(cause, deadline)) {
+                    breaker.onIgnored();
+                } else if (failed) {
+                    breaker.onFailure();
+                } else {
+                    breaker.onSuccess();
+                }
+            }
+            if (!failed) {
+                latencyTracker(endpoint).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+
+            long delay = backoff(attemptNo);
+            if (attemptNo < maxRetries && isRetryable(response, cause) && fits(deadline, delay)) {
+                logger.warning("Retrying <POST> " + endpoint + " after " + delay + " ms (attempt "
+                        + (attemptNo + 2) + " of " + (maxRetries + 1) + "): "
+                        + (cause != null ? cause : "HTTP " + response.statusCode()));
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+                        .execute(() -> attempt(endpoint, deadline, hedgeable, call, attemptNo + 1, result));
+            } else if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(response);
+            }
+        });
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> hedged(String endpoint, boolean hedgeable,
+                                                           Supplier<CompletableFuture<HttpResponse<byte[]>>> call) {
+        long percentile = hedgingEnabled && hedgeable ? latencyTracker(endpoint).threshold() : -1;
+        if (percentile < 0) {
+            return send(call);
+        }
+        // A percentile of a few milliseconds would hedge nearly every call
+        long threshold = Math.max(MIN_HEDGE_DELAY_MILLIS, percentile);
+
+        CompletableFuture<HttpResponse<byte[]>> first = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        subscribe(send(call), first, outstanding);
+        CompletableFuture.delayedExecutor(threshold, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!first.isDone()) {
+                logger.fine("Hedging <POST> " + endpoint + " after " + threshold + " ms");
+                outstanding.incrementAndGet();
+                subscribe(send(call), first, outstanding);
+            }
+        });
+        return first;
+    }
+
+    /**
+     * Starts one copy of the request. A supplier that throws counts as a failed attempt, so the breaker permit and
+     * the hedge count are settled and the result still completes.
+     */
+    private static CompletableFuture<HttpResponse<byte[]>> send(Supplier<CompletableFuture<HttpResponse<byte[]>>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void subscribe(CompletableFuture<HttpResponse<byte[]>> attempt, CompletableFuture<HttpResponse<byte[]>> first,
+                                  AtomicInteger outstanding) {
+        attempt.whenComplete((response, error) -> {
+            int remaining = outstanding.decrementAndGet();
+            if (error == null) {
+                first.complete(response);
+            } else if (remaining == 0) {
+                // Only surface a failure once no other copy of the request can still succeed.
+                first.completeExceptionally(error);
+            }
+        });
+    }
+
+    private boolean isRetryable(HttpResponse<byte[]> response, Throwable cause) {
+        if (cause != null) {
+            return cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException;
+        }
+        return response.statusCode() == 429 || response.statusCode() == 503;
+    }
+
+    /**
+     * Whether {@code cause} is the caller's {@link Deadline} running out, either before an attempt could be sent or
+     * as the request timeout it was capped to, rather than the endpoint failing.
+     */
+    private static boolean isOwnTimeout(Throwable cause, Deadline deadline) {
+        if (cause instanceof AuthenticatorException) {
+            return Errors.AUT_TMO_001.name().equals(((AuthenticatorException) cause).getErrorCode());
+        }
+        return cause instanceof HttpTimeoutException && !(cause instanceof HttpConnectTimeoutException) && deadline.isExpired();
+    }
+
+    private static boolean fits(Deadline deadline, long delayMillis) {
+        return !deadline.isBounded() || deadline.remaining().toMillis() > delayMillis;
+    }
+
+    private long backoff(int attemptNo) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attemptNo, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private LatencyTracker latencyTracker(String endpoint) {
+        return latencies.computeIfAbsent(endpoint,
+                key -> new LatencyTracker(LATENCY_WINDOW, hedgingPercentile, hedgingMinSamples));
+    }
+
+    private CircuitBreaker newBreaker(String endpoint) {
+        return new CircuitBreaker(
+                endpoint,
+                config.getCircuit_sliding_window_size(),
+                config.getCircuit_failure_rate_threshold(),
+                config.getCircuit_minimum_calls(),
+                config.getCircuit_open_duration_ms(),
+                config.getCircuit_half_open_calls(),
+                this::publish
+        );
+    }
+
+    private void publish(CircuitBreakerEvent event) {
+        logger.warning("Circuit breaker state change: " + event);
+        for (CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateChange(event);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Circuit breaker listener failed", e);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
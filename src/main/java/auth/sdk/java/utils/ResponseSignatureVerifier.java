@@ -0,0 +1,293 @@
+package auth.sdk.java.utils;
+
+import auth.sdk.java.exceptions.AuthenticatorCryptoException;
+import auth.sdk.java.exceptions.Errors;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.CertPathValidator;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Verifies the detached RS256 JWS ({@code header..signature}) IDA sends with every response, over the raw response
+ * bytes and before anything parses them.
+ * <p>
+ * The certificate chain in the {@code x5c} header parameter must lead to one of the configured trusted certificates.
+ * Building and validating that chain is far more expensive than checking the signature itself, and IDA signs every
+ * response with the same certificate, so validated chains are cached:
+ * <ul>
+ *   <li>by the protected header segment, so a repeat of a header costs one map lookup and no decoding at all;</li>
+ *   <li>by the SHA-256 fingerprint of the chain, so a header that differs only in other parameters reuses the
+ *   validation.</li>
+ * </ul>
+ * A cached chain expires after {@code chain_cache_ttl_ms}, or earlier when a certificate in it does, and is then
+ * validated again, so a revoked or replaced IDA certificate stops being accepted within that period.
+ * </p>
+ * <p>
+ * The signature check itself streams {@code header "." base64url(body)} into a pooled {@code SHA256withRSA}
+ * {@link Signature}, mirroring {@link DetachedJwsSigner}; the encoded body is never materialised.
+ * </p>
+ *
+ * @author Tezaswa06
+ * @version 1.0
+ */
+public final class ResponseSignatureVerifier {
+    private static final String JCA_ALGORITHM = "SHA256withRSA";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final java.util.Base64.Encoder PAYLOAD_ENCODER = java.util.Base64.getUrlEncoder().withoutPadding();
+
+    private final String signatureHeader;
+    private final Set<TrustAnchor> trustAnchors;
+    private final Set<X509Certificate> trustedCertificates;
+    private final long chainCacheTtlMillis;
+    private final int chainCacheMaxEntries;
+    private final Logger logger;
+    private final ConcurrentMap<String, VerifiedHeader> headers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TrustedChain> chains = new ConcurrentHashMap<>();
+    private final EnginePool<Signature> signatures = new EnginePool<>(
+            () -> Signature.getInstance(JCA_ALGORITHM),
+            Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+
+    public ResponseSignatureVerifier(Config.ResponseVerification config, Logger logger) throws AuthenticatorCryptoException {
+        this.signatureHeader = config.getSignature_header();
+        this.chainCacheTtlMillis = config.getChain_cache_ttl_ms();
+        this.chainCacheMaxEntries = Math.max(1, config.getChain_cache_max_entries());
+        this.logger = logger;
+
+        String trustCertPath = config.getTrust_cert_path();
+        Set<X509Certificate> trusted = new HashSet<>();
+        try (InputStream in = Files.newInputStream(Paths.get(trustCertPath))) {
+            for (Certificate certificate : CertificateFactory.getInstance("X.509").generateCertificates(in)) {
+                trusted.add((X509Certificate) certificate);
+            }
+            if (trusted.isEmpty()) {
+                throw new IOException("no certificates found");
+            }
+        } catch (Exception e) {
+            logger.error("Error reading trusted response signing certificates. Error Message: {}", e.getMessage(), e);
+            throw new AuthenticatorCryptoException(Errors.AUT_CRY_001.name(), Errors.AUT_CRY_001.getMessage(trustCertPath));
+        }
+        Set<TrustAnchor> anchors = new HashSet<>();
+        for (X509Certificate certificate : trusted) {
+            anchors.add(new TrustAnchor(certificate, null));
+        }
+        this.trustedCertificates = Collections.unmodifiableSet(trusted);
+        this.trustAnchors = Collections.unmodifiableSet(anchors);
+    }
+
+    /**
+     * Name of the HTTP response header carrying the JWS.
+     */
+    public String getSignatureHeader() {
+        return signatureHeader;
+    }
+
+    /**
+     * Checks that {@code jws} is a valid detached signature over {@code body} by a trusted certificate.
+     *
+     * @throws AuthenticatorCryptoException {@code AUT_CRY_008} if the signature is missing, malformed, made by an
+     *                                      untrusted or expired certificate, or does not match the body
+     */
+    public void verify(String jws, byte[] body) throws AuthenticatorCryptoException {
+        if (jws == null || jws.isEmpty()) {
+            throw failure("No " + signatureHeader + " header in the response.");
+        }
+        int headerEnd = jws.indexOf('.');
+        if (headerEnd <= 0 || headerEnd + 1 >= jws.length() || jws.charAt(headerEnd + 1) != '.'
+                || jws.indexOf('.', headerEnd + 2) >= 0) {
+            throw failure("Response signature is not a detached JWS.");
+        }
+        String headerB64 = jws.substring(0, headerEnd);
+        VerifiedHeader header = header(headerB64);
+
+        Signature signature = null;
+        boolean valid;
+        try {
+            byte[] signatureBytes = java.util.Base64.getUrlDecoder().decode(jws.substring(headerEnd + 2));
+            signature = signatures.acquire();
+            signature.initVerify(header.chain.publicKey);
+            signature.update(header.signingInputPrefix);
+            try (OutputStream encoded = PAYLOAD_ENCODER.wrap(new DetachedJwsSigner.SignatureOutputStream(signature))) {
+                for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+                    encoded.write(body, offset, Math.min(CHUNK_SIZE, body.length - offset));
+                }
+            }
+            valid = signature.verify(signatureBytes);
+        } catch (IllegalArgumentException | IOException | GeneralSecurityException e) {
+            logger.error("Error verifying response signature. Error Message: {}", e.getMessage(), e);
+            throw failure("Response signature could not be checked.");
+        } finally {
+            if (signature != null) {
+                signatures.release(signature);
+            }
+        }
+        if (!valid) {
+            throw failure("Response signature does not match the response body.");
+        }
+    }
+
+    /**
+     * Forgets every validated chain, e.g. after the trusted certificates were revoked out of band.
+     */
+    public void clearCache() {
+        headers.clear();
+        chains.clear();
+    }
+
+    private VerifiedHeader header(String headerB64) throws AuthenticatorCryptoException {
+        long now = System.currentTimeMillis();
+        VerifiedHeader header = headers.get(headerB64);
+        if (header != null && header.chain.expiresAt > now) {
+            return header;
+        }
+
+        X509Certificate[] certificates;
+        String fingerprint;
+        try {
+            JsonNode protectedHeader = JsonCodecs.treeReader().readTree(java.util.Base64.getUrlDecoder().decode(headerB64));
+            String algorithm = protectedHeader.path("alg").asText();
+            if (!"RS256".equals(algorithm)) {
+                throw failure("Unsupported response signature algorithm " + algorithm + ".");
+            }
+            JsonNode x5c = protectedHeader.path("x5c");
+            if (!x5c.isArray() || x5c.isEmpty()) {
+                throw failure("Response signature carries no x5c certificate chain.");
+            }
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            certificates = new X509Certificate[x5c.size()];
+            for (int i = 0; i < certificates.length; i++) {
+                // x5c is standard Base64 per RFC 7515, though some signers emit Base64URL; accept both
+                byte[] der = Base64.decodeBase64(x5c.get(i).asText());
+                digest.update(der);
+                certificates[i] = (X509Certificate) factory.generateCertificate(new ByteArrayInputStream(der));
+            }
+            fingerprint = Hex.encodeHexString(digest.digest());
+        } catch (AuthenticatorCryptoException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error reading response signature header. Error Message: {}", e.getMessage(), e);
+            throw failure("Response signature header could not be read.");
+        }
+
+        TrustedChain chain = chains.get(fingerprint);
+        if (chain == null || chain.expiresAt <= now) {
+            chain = validate(fingerprint, certificates, now);
+            evictIfFull(chains, now);
+            chains.put(fingerprint, chain);
+        }
+        header = new VerifiedHeader((headerB64 + ".").getBytes(StandardCharsets.US_ASCII), chain);
+        evictIfFull(headers, now);
+        headers.put(headerB64, header);
+        return header;
+    }
+
+    private TrustedChain validate(String fingerprint, X509Certificate[] certificates, long now) throws AuthenticatorCryptoException {
+        try {
+            long expiresAt = now + chainCacheTtlMillis;
+            for (X509Certificate certificate : certificates) {
+                certificate.checkValidity();
+                expiresAt = Math.min(expiresAt, certificate.getNotAfter().getTime());
+            }
+            // The chain up to the first certificate that is itself trusted; empty when the leaf is pinned directly
+            List<X509Certificate> path = new ArrayList<>(certificates.length);
+            for (X509Certificate certificate : certificates) {
+                if (trustedCertificates.contains(certificate)) {
+                    break;
+                }
+                path.add(certificate);
+            }
+            if (!path.isEmpty()) {
+                PKIXParameters parameters = new PKIXParameters(trustAnchors);
+                parameters.setRevocationEnabled(false);
+                CertPathValidator.getInstance("PKIX").validate(
+                        CertificateFactory.getInstance("X.509").generateCertPath(path), parameters);
+            }
+            logger.info("Validated response signing certificate {} (chain {}).",
+                    certificates[0].getSubjectX500Principal(), fingerprint);
+            return new TrustedChain(certificates[0].getPublicKey(), expiresAt);
+        } catch (Exception e) {
+            logger.error("Response signing certificate {} is not trusted. Error Message: {}",
+                    certificates[0].getSubjectX500Principal(), e.getMessage(), e);
+            throw failure("Response signing certificate is not trusted.");
+        }
+    }
+
+    private <V extends Expiring> void evictIfFull(ConcurrentMap<String, V> cache, long now) {
+        if (cache.size() < chainCacheMaxEntries) {
+            return;
+        }
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (cache.size() >= chainCacheMaxEntries) {
+            cache.clear();
+        }
+    }
+
+    private static AuthenticatorCryptoException failure(String reason) {
+        return new AuthenticatorCryptoException(Errors.AUT_CRY_008.name(), Errors.AUT_CRY_008.getMessage(reason));
+    }
+
+    private interface Expiring {
+        long expiresAt();
+    }
+
+    /**
+     * Public key of a chain that led to a trusted certificate, good until {@code expiresAt}.
+     */
+    private static final class TrustedChain implements Expiring {
+        private final PublicKey publicKey;
+        private final long expiresAt;
+
+        private TrustedChain(PublicKey publicKey, long expiresAt) {
+            this.publicKey = publicKey;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public long expiresAt() {
+            return expiresAt;
+        }
+    }
+
+    /**
+     * A protected header seen before: its signing input prefix and the chain it carries.
+     */
+    private static final class VerifiedHeader implements Expiring {
+        private final byte[] signingInputPrefix;
+        private final TrustedChain chain;
+
+        private VerifiedHeader(byte[] signingInputPrefix, TrustedChain chain) {
+            this.signingInputPrefix = signingInputPrefix;
+            this.chain = chain;
+        }
+
+        @Override
+        public long expiresAt() {
+            return chain.expiresAt;
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package auth.sdk.java.utils;
 
-import java.io.OutputStream;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import auth.sdk.java.exceptions.AuthenticatorException;
+import auth.sdk.java.exceptions.Errors;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 /**
@@ -13,9 +23,14 @@ import java.util.logging.Logger;
  * This class provides methods to:
  * <ul>
  *   <li>Send HTTP requests with configurable headers and cookies</li>
- *   <li>Handle response codes and error handling</li>
+ *   <li>Send POST requests asynchronously, returning a {@link CompletableFuture}</li>
+ *   <li>Apply the configured {@link ResiliencePolicy} (retries, hedging, circuit breaker) to every POST</li>
  *   <li>Support for JSON and other content types</li>
  * </ul>
+ * All requests go through a shared {@link HttpClient} (one per configured connect timeout), so connections are
+ * pooled across every {@code RestUtil} instance and HTTP/2 is negotiated whenever the server supports it.
+ * Each POST is bounded by the configured read timeout, shortened to whatever is left of the caller's {@link Deadline}.
+ * Instances are thread-safe: the default headers are immutable and every request gets its own header set.
  * <b>Usage:</b> Used internally by the SDK for communication with external services.
  * </p>
  *
@@ -24,19 +39,38 @@ import java.util.logging.Logger;
  */
 
 public class RestUtil {
+    private static final ConcurrentMap<Long, HttpClient> SHARED_CLIENTS = new ConcurrentHashMap<>();
+
     private final String authServerUrl;
     private final Logger logger;
     private final Map<String, String> requestHeaders;
+    private final ResiliencePolicy resiliencePolicy;
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
 
     public RestUtil(String authServerUrl, String authorizationHeaderConstant, Logger logger) {
+        this(authServerUrl, authorizationHeaderConstant, 0, 0, null, logger);
+    }
+
+    public RestUtil(Config.MosipAuthServer server, String authorizationHeaderConstant, Config.Resilience resilience, Logger logger) {
+        this(server.getIda_auth_url(), authorizationHeaderConstant, server.getConnect_timeout_ms(),
+                server.getRead_timeout_ms(), resilience, logger);
+    }
+
+    private RestUtil(String authServerUrl, String authorizationHeaderConstant, long connectTimeoutMillis, long readTimeoutMillis,
+                     Config.Resilience resilience, Logger logger) {
         this.authServerUrl = authServerUrl;
         this.logger = logger;
-        this.requestHeaders = new java.util.HashMap<>();
-        this.requestHeaders.put("Authorization", authorizationHeaderConstant);
-        this.requestHeaders.put("Content-Type", "application/json");
+        this.resiliencePolicy = new ResiliencePolicy(resilience, logger);
+        this.httpClient = SHARED_CLIENTS.computeIfAbsent(Math.max(0L, connectTimeoutMillis), RestUtil::newClient);
+        this.readTimeout = readTimeoutMillis > 0 ? Duration.ofMillis(readTimeoutMillis) : null;
+        Map<String, String> defaultHeaders = new HashMap<>();
+        defaultHeaders.put("Authorization", authorizationHeaderConstant);
+        defaultHeaders.put("Content-Type", "application/json");
+        this.requestHeaders = Collections.unmodifiableMap(defaultHeaders);
     }
 
-    public HttpURLConnection getRequest(String pathParams, Map<String, String> headers, String data, Map<String, String> cookies) throws Exception {
+    public HttpResponse<byte[]> getRequest(String pathParams, Map<String, String> headers, Map<String, String> cookies) throws Exception {
         String serverUrl = this.authServerUrl;
         if (pathParams != null && !pathParams.isEmpty()) {
             serverUrl += pathParams;
@@ -44,36 +78,173 @@ public class RestUtil {
 
         logger.info("Got <GET> Request for URL and Path Params: " + serverUrl);
 
-        URL url = new URL(serverUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(serverUrl.trim())).GET();
+        if (readTimeout != null) {
+            builder.timeout(readTimeout);
+        }
 
         if (headers != null) {
             for (Map.Entry<String, String> entry : headers.entrySet()) {
-                connection.setRequestProperty(entry.getKey(), entry.getValue());
+                builder.header(entry.getKey(), entry.getValue());
             }
         }
+        addCookies(builder, cookies);
 
-        if (cookies != null && !cookies.isEmpty()) {
-            StringBuilder cookieBuilder = new StringBuilder();
-            for (Map.Entry<String, String> entry : cookies.entrySet()) {
-                cookieBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("; ");
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    public ResiliencePolicy getResiliencePolicy() {
+        return resiliencePolicy;
+    }
+
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, String data, Map<String, String> cookies) throws Exception {
+        return await(sendAsync(pathParams, additionalHeaders, bodyOf(data), null, cookies, Deadline.none(), false));
+    }
+
+    /**
+     * Posts an already serialized body. The array is handed to the client as-is and sent with a fixed
+     * {@code Content-Length}, so callers must not modify it until the response arrives.
+     */
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies) throws Exception {
+        return postRequest(pathParams, additionalHeaders, data, cookies, Deadline.none());
+    }
+
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies,
+                                            Deadline deadline) throws Exception {
+        return postRequest(pathParams, additionalHeaders, data, cookies, deadline, false);
+    }
+
+    /**
+     * Same as {@link #postRequest(String, Map, byte[], Map, Deadline)}, but {@code hedgeable} lets the policy send a
+     * slow request twice; see {@link ResiliencePolicy#execute(String, Deadline, boolean, java.util.function.Supplier)}.
+     */
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies,
+                                            Deadline deadline, boolean hedgeable) throws Exception {
+        return await(sendAsync(pathParams, additionalHeaders, bodyOf(data), null, cookies, deadline, hedgeable));
+    }
+
+    /**
+     * Posts a body assembled in pooled segments. Every HTTP attempt (including retries and hedges) holds its own
+     * reference to {@code data} until it completes, so the caller may release its reference as soon as this returns.
+     */
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, SegmentedBuffer data, Map<String, String> cookies,
+                                            Deadline deadline) throws Exception {
+        return postRequest(pathParams, additionalHeaders, data, cookies, deadline, false);
+    }
+
+    public HttpResponse<byte[]> postRequest(String pathParams, Map<String, String> additionalHeaders, SegmentedBuffer data, Map<String, String> cookies,
+                                            Deadline deadline, boolean hedgeable) throws Exception {
+        return await(sendAsync(pathParams, additionalHeaders, data.bodyPublisher(), data, cookies, deadline, hedgeable));
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, String data, Map<String, String> cookies) {
+        return sendAsync(pathParams, additionalHeaders, bodyOf(data), null, cookies, Deadline.none(), false);
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies) {
+        return postRequestAsync(pathParams, additionalHeaders, data, cookies, Deadline.none());
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies,
+                                                                    Deadline deadline) {
+        return postRequestAsync(pathParams, additionalHeaders, data, cookies, deadline, false);
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, byte[] data, Map<String, String> cookies,
+                                                                    Deadline deadline, boolean hedgeable) {
+        return sendAsync(pathParams, additionalHeaders, bodyOf(data), null, cookies, deadline, hedgeable);
+    }
+
+    /**
+     * Asynchronous form of {@link #postRequest(String, Map, SegmentedBuffer, Map, Deadline)}.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, SegmentedBuffer data,
+                                                                    Map<String, String> cookies, Deadline deadline) {
+        return postRequestAsync(pathParams, additionalHeaders, data, cookies, deadline, false);
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> postRequestAsync(String pathParams, Map<String, String> additionalHeaders, SegmentedBuffer data,
+                                                                    Map<String, String> cookies, Deadline deadline, boolean hedgeable) {
+        return sendAsync(pathParams, additionalHeaders, data.bodyPublisher(), data, cookies, deadline, hedgeable);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> sendAsync(String pathParams, Map<String, String> additionalHeaders,
+                                                              HttpRequest.BodyPublisher body, SegmentedBuffer pooledBody,
+                                                              Map<String, String> cookies, Deadline deadline, boolean hedgeable) {
+        HttpRequest.Builder builder;
+        try {
+            builder = buildPostRequest(pathParams, additionalHeaders, body, cookies);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (pooledBody != null) {
+            // Held across the whole policy run, so the body outlives backoff gaps between attempts.
+            pooledBody.retain();
+        }
+        CompletableFuture<HttpResponse<byte[]>> result = resiliencePolicy.execute(endpointOf(pathParams), deadline, hedgeable, () -> {
+            try {
+                deadline.check("send");
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            // Each attempt gets whatever is left of the budget, so retries and hedges never overrun the deadline.
+            Duration timeout = deadline.cap(readTimeout);
+            if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+                // The deadline passed since the check above; HttpRequest rejects a zero timeout
+                return CompletableFuture.failedFuture(new AuthenticatorException(
+                        Errors.AUT_TMO_001.name(), Errors.AUT_TMO_001.getMessage("send")));
             }
-            connection.setRequestProperty("Cookie", cookieBuilder.toString());
+            HttpRequest request = timeout != null ? builder.copy().timeout(timeout).build() : builder.build();
+            if (pooledBody == null) {
+                return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            }
+            // A failed attempt may still have segments queued in the client, so those are never recycled.
+            pooledBody.retain();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> pooledBody.release(error == null));
+        });
+        return pooledBody == null ? result : result.whenComplete((response, error) -> pooledBody.release());
+    }
+
+    private static HttpClient newClient(long connectTimeoutMillis) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (connectTimeoutMillis > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
         }
+        return builder.build();
+    }
+
+    private static String endpointOf(String pathParams) {
+        if (pathParams == null || pathParams.isEmpty()) {
+            return "/";
+        }
+        int slash = pathParams.indexOf('/');
+        return slash < 0 ? pathParams : pathParams.substring(0, slash);
+    }
 
-        if (data != null) {
-            connection.setDoOutput(true);
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getBytes());
-                os.flush();
+    private static HttpResponse<byte[]> await(CompletableFuture<HttpResponse<byte[]>> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
             }
+            throw e;
         }
+    }
+
+    private static HttpRequest.BodyPublisher bodyOf(String data) {
+        return data != null ? HttpRequest.BodyPublishers.ofString(data) : HttpRequest.BodyPublishers.noBody();
+    }
 
-        return connection;
+    private static HttpRequest.BodyPublisher bodyOf(byte[] data) {
+        return data != null ? HttpRequest.BodyPublishers.ofByteArray(data) : HttpRequest.BodyPublishers.noBody();
     }
 
-    public HttpURLConnection postRequest(String pathParams, Map<String, String> additionalHeaders, String data, Map<String, String> cookies) throws Exception {
+    private HttpRequest.Builder buildPostRequest(String pathParams, Map<String, String> additionalHeaders, HttpRequest.BodyPublisher body, Map<String, String> cookies) {
         String serverUrl = this.authServerUrl;
         if (pathParams != null && !pathParams.isEmpty()) {
             if (!serverUrl.endsWith("/")) {
@@ -82,43 +253,35 @@ public class RestUtil {
             serverUrl += pathParams;
         }
 
+        Map<String, String> headers = new HashMap<>(requestHeaders);
         if (additionalHeaders != null) {
-            requestHeaders.putAll(additionalHeaders);
+            headers.putAll(additionalHeaders);
         }
 
         logger.info("Got <POST> Request for URL: " + this.authServerUrl);
         logger.fine("Final request route = " + serverUrl);
-        logger.fine("Request Headers = " + requestHeaders);
+        logger.fine("Request Headers = " + headers);
 
-        System.out.println("Got <POST> Request for URL: " + this.authServerUrl);
-        System.out.println("Final request route = " + serverUrl);
-        System.out.println("Request Headers = " + requestHeaders);
-
-        URL url = new URL(serverUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("POST");
-        connection.setDoOutput(true);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(serverUrl.trim())).POST(body);
 
         // Add headers
-        for (Map.Entry<String, String> entry : requestHeaders.entrySet()) {
-            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            builder.header(entry.getKey(), entry.getValue());
         }
 
         // Add cookies
+        addCookies(builder, cookies);
+
+        return builder;
+    }
+
+    private static void addCookies(HttpRequest.Builder builder, Map<String, String> cookies) {
         if (cookies != null && !cookies.isEmpty()) {
             StringBuilder cookieBuilder = new StringBuilder();
             for (Map.Entry<String, String> entry : cookies.entrySet()) {
                 cookieBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("; ");
             }
-            connection.setRequestProperty("Cookie", cookieBuilder.toString());
-        }
-
-        if (data != null) {
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getBytes());
-                os.flush();
-            }
+            builder.header("Cookie", cookieBuilder.toString());
         }
-        return connection;
     }
-}
\ No newline at end of file
+}
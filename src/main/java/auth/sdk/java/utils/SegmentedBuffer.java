@@ -0,0 +1,284 @@
+package auth.sdk.java.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Growable byte buffer made of {@link BufferPool} segments, written through the {@link OutputStream} interface
+ * and read back as {@link ByteBuffer} views, an ASCII {@link Reader} or an HTTP body.
+ * <p>
+ * Buffers are reference counted. The creator holds the first reference; anyone who keeps reading after the creator
+ * may be done (for example every HTTP attempt sending this buffer) takes its own with {@link #retain()}. The
+ * segments go back to the pool when the last reference is released, unless some holder released with
+ * {@link #release(boolean) release(false)} because it could not be sure the bytes were no longer in use, in which
+ * case they are left to the garbage collector instead of being recycled.
+ * </p>
+ * <p>
+ * Writing is single-threaded; once fully written a buffer may be read from any number of threads.
+ * </p>
+ */
+public final class SegmentedBuffer extends OutputStream {
+    private final BufferPool pool;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final AtomicInteger references = new AtomicInteger(1);
+    private volatile boolean recyclable = true;
+    private ByteBuffer current;
+    private long length;
+
+    SegmentedBuffer(BufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureWritable().put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            ByteBuffer segment = ensureWritable();
+            int n = Math.min(len, segment.remaining());
+            segment.put(b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+    }
+
+    /**
+     * Appends the remaining bytes of {@code src}, e.g. a segment of another buffer, without an intermediate array.
+     * The position of {@code src} is advanced to its limit.
+     */
+    public void write(ByteBuffer src) {
+        while (src.hasRemaining()) {
+            ByteBuffer segment = ensureWritable();
+            int n = Math.min(src.remaining(), segment.remaining());
+            ByteBuffer slice = src.slice(src.position(), n);
+            segment.put(slice);
+            src.position(src.position() + n);
+            length += n;
+        }
+    }
+
+    /**
+     * Does not release the segments; closing is a no-op so that the buffer can be handed to writers that close
+     * their target.
+     */
+    @Override
+    public void close() {
+    }
+
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Independent read views over the written bytes, in order. Reading them does not affect this buffer.
+     */
+    public List<ByteBuffer> segments() {
+        checkLive();
+        List<ByteBuffer> views = new ArrayList<>(segments.size());
+        for (ByteBuffer segment : segments) {
+            views.add(segment.duplicate().flip());
+        }
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Reads the content as single-byte characters; only meaningful for ASCII content such as Base64.
+     */
+    public Reader newAsciiReader() {
+        List<ByteBuffer> views = segments();
+        return new Reader() {
+            private int index;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                while (index < views.size() && !views.get(index).hasRemaining()) {
+                    index++;
+                }
+                if (index == views.size()) {
+                    return -1;
+                }
+                ByteBuffer view = views.get(index);
+                int n = Math.min(len, view.remaining());
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = (char) (view.get() & 0xFF);
+                }
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * A fixed-length HTTP body over the segments. Every subscription reads its own views, so the same publisher can
+     * be sent by several attempts at once.
+     */
+    public HttpRequest.BodyPublisher bodyPublisher() {
+        return HttpRequest.BodyPublishers.fromPublisher(new SegmentPublisher(), length);
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[Math.toIntExact(length)];
+        int offset = 0;
+        for (ByteBuffer view : segments()) {
+            int n = view.remaining();
+            view.get(bytes, offset, n);
+            offset += n;
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return new String(toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Overwrites the written bytes with zeros, e.g. before releasing a buffer that held plaintext.
+     */
+    public void wipe() {
+        for (ByteBuffer segment : segments) {
+            for (int i = 0; i < segment.position(); i++) {
+                segment.put(i, (byte) 0);
+            }
+        }
+    }
+
+    public SegmentedBuffer retain() {
+        if (references.getAndIncrement() <= 0) {
+            references.decrementAndGet();
+            throw new IllegalStateException("SegmentedBuffer has already been released");
+        }
+        return this;
+    }
+
+    public void release() {
+        release(true);
+    }
+
+    /**
+     * Drops one reference.
+     *
+     * @param recycle {@code false} if this holder cannot be sure nothing is still reading the segments (e.g. an
+     *                HTTP attempt that failed mid-send); the segments will then not be returned to the pool
+     */
+    public void release(boolean recycle) {
+        if (!recycle) {
+            recyclable = false;
+        }
+        int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            if (recyclable) {
+                segments.forEach(pool::release);
+            }
+            segments.clear();
+            current = null;
+        } else if (remaining < 0) {
+            throw new IllegalStateException("SegmentedBuffer released more often than retained");
+        }
+    }
+
+    private ByteBuffer ensureWritable() {
+        checkLive();
+        if (current == null || !current.hasRemaining()) {
+            current = pool.acquire();
+            segments.add(current);
+        }
+        return current;
+    }
+
+    private void checkLive() {
+        if (references.get() <= 0) {
+            throw new IllegalStateException("SegmentedBuffer has already been released");
+        }
+    }
+
+    private final class SegmentPublisher implements Flow.Publisher<ByteBuffer> {
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            List<ByteBuffer> views;
+            try {
+                views = segments();
+            } catch (IllegalStateException e) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(e);
+                return;
+            }
+            subscriber.onSubscribe(new SegmentSubscription(subscriber, views));
+        }
+    }
+
+    private static final class SegmentSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final List<ByteBuffer> views;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainers = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int index;
+        private boolean completed;
+
+        private SegmentSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, List<ByteBuffer> views) {
+            this.subscriber = subscriber;
+            this.views = views;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        // Serialises delivery: a subscriber calling request() from onNext() only bumps the counters and the
+        // thread already draining picks the new demand up.
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && index < views.size() && demand.get() > 0) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(views.get(index++));
+                }
+                if (!cancelled && !completed && index == views.size()) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            } while (drainers.decrementAndGet() != 0);
+        }
+    }
+}
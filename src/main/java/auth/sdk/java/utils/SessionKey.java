@@ -0,0 +1,29 @@
+package auth.sdk.java.utils;
+
+/**
+ * A single-use AES session key together with its RSA-OAEP wrapped, Base64URL encoded form, ready to be placed
+ * in {@code requestSessionKey}, and the thumbprint of the certificate it was wrapped for.
+ */
+final class SessionKey {
+    private final byte[] aesKey;
+    private final String wrappedKeyB64;
+    private final String thumbprint;
+
+    SessionKey(byte[] aesKey, String wrappedKeyB64, String thumbprint) {
+        this.aesKey = aesKey;
+        this.wrappedKeyB64 = wrappedKeyB64;
+        this.thumbprint = thumbprint;
+    }
+
+    String getThumbprint() {
+        return thumbprint;
+    }
+
+    byte[] getAesKey() {
+        return aesKey;
+    }
+
+    String getWrappedKeyB64() {
+        return wrappedKeyB64;
+    }
+}
@@ -0,0 +1,133 @@
+package auth.sdk.java.utils;
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded buffer of pre-generated {@link SessionKey}s, kept full by background threads so that a request only
+ * pays for AES key generation and the RSA-OAEP wrap when a burst has drained the pool.
+ * <p>
+ * Every key is handed out exactly once. When the pool is empty, {@link #take(KeySet)} generates a key on the
+ * calling thread instead of waiting, so the pool can only ever make a request faster.
+ * </p>
+ * <p>
+ * Keys are wrapped for the encryption certificate that was active when they were generated. {@link #take(KeySet)}
+ * only hands out keys whose thumbprint matches the caller's snapshot and wipes any other it comes across, and
+ * {@link #invalidate()} drops the whole buffer after a rotation.
+ * </p>
+ */
+final class SessionKeyPool implements AutoCloseable {
+    private static final long REFILL_ERROR_BACKOFF_MILLIS = 1000;
+
+    @FunctionalInterface
+    interface Generator {
+        SessionKey generate(KeySet keys) throws Exception;
+    }
+
+    private final Generator generator;
+    private final Supplier<KeySet> currentKeys;
+    private final Logger logger;
+    private final int capacity;
+    private final BlockingQueue<SessionKey> keys;
+    private final List<Thread> refillers = new ArrayList<>();
+    private volatile boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final Object rateLock = new Object();
+    private long rateWindowStart = System.nanoTime();
+    private long rateWindowCount;
+    private double refillRate;
+
+    SessionKeyPool(Config.SessionKeyPool config, Supplier<KeySet> currentKeys, Generator generator, Logger logger) {
+        this.generator = generator;
+        this.currentKeys = currentKeys;
+        this.logger = logger;
+        this.capacity = Math.max(1, config.getCapacity());
+        this.keys = new ArrayBlockingQueue<>(capacity);
+        for (int i = 0; i < Math.max(1, config.getRefill_threads()); i++) {
+            refillers.add(Thread.ofPlatform().daemon().name("ida-session-key-refill-" + i).start(this::refill));
+        }
+    }
+
+    SessionKey take(KeySet keySet) throws Exception {
+        SessionKey key;
+        while ((key = keys.poll()) != null) {
+            if (key.getThumbprint().equals(keySet.getEncryptThumbprint())) {
+                hits.increment();
+                return key;
+            }
+            Arrays.fill(key.getAesKey(), (byte) 0);
+        }
+        misses.increment();
+        return generator.generate(keySet);
+    }
+
+    /**
+     * Wipes and drops every buffered key, e.g. because the encryption certificate they were wrapped for rotated.
+     */
+    void invalidate() {
+        SessionKey key;
+        while ((key = keys.poll()) != null) {
+            Arrays.fill(key.getAesKey(), (byte) 0);
+        }
+    }
+
+    SessionKeyPoolStats stats() {
+        double rate;
+        synchronized (rateLock) {
+            // A window that ended more than a second ago with no keys means the pool has been full and idle.
+            rate = System.nanoTime() - rateWindowStart > 2 * TimeUnit.SECONDS.toNanos(1) ? 0 : refillRate;
+        }
+        return new SessionKeyPoolStats(keys.size(), capacity, hits.sum(), misses.sum(), generated.sum(), rate);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        refillers.forEach(Thread::interrupt);
+        keys.clear();
+    }
+
+    private void refill() {
+        while (!closed) {
+            try {
+                SessionKey key = generator.generate(currentKeys.get());
+                generated.increment();
+                recordRefill();
+                keys.put(key);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                logger.error("Session key pre-generation failed: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(REFILL_ERROR_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void recordRefill() {
+        long now = System.nanoTime();
+        synchronized (rateLock) {
+            rateWindowCount++;
+            long elapsed = now - rateWindowStart;
+            if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+                refillRate = rateWindowCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+                rateWindowStart = now;
+                rateWindowCount = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package auth.sdk.java.utils;
+
+import lombok.Getter;
+
+/**
+ * Point-in-time metrics of the session key pool.
+ * <ul>
+ *   <li>{@code depth}: keys ready right now, out of {@code capacity}.</li>
+ *   <li>{@code hits} / {@code misses}: requests served from the pool, and requests that found it empty and
+ *   generated a key inline.</li>
+ *   <li>{@code refillRatePerSecond}: keys produced by the background threads over the last full second.</li>
+ * </ul>
+ */
+@Getter
+public final class SessionKeyPoolStats {
+    private final int depth;
+    private final int capacity;
+    private final long hits;
+    private final long misses;
+    private final long generated;
+    private final double refillRatePerSecond;
+
+    SessionKeyPoolStats(int depth, int capacity, long hits, long misses, long generated, double refillRatePerSecond) {
+        this.depth = depth;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.generated = generated;
+        this.refillRatePerSecond = refillRatePerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionKeyPoolStats{depth=" + depth + "/" + capacity + ", hits=" + hits + ", misses=" + misses
+                + ", generated=" + generated + ", refillRatePerSecond=" + String.format("%.1f", refillRatePerSecond) + "}";
+    }
+}
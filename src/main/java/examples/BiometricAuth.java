@@ -1,6 +1,7 @@
 package examples;
 
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.models.AuthResponse;
 import auth.sdk.java.models.BiometricModel;
 import auth.sdk.java.utils.ConfigLoader;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -10,6 +11,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -88,7 +90,7 @@ public class BiometricAuth {
         }
     }
 
-    private List<JsonNode> captureBiometricData(JsonNode device) {
+    private List<BiometricModel> captureBiometricData(JsonNode device) {
         try {
             ObjectNode payload = objectMapper.createObjectNode()
                     .put("env", "Developer")
@@ -114,17 +116,14 @@ public class BiometricAuth {
                     .header("Content-Type", "application/json")
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() == 200) {
-                JsonNode result = objectMapper.readTree(response.body());
-                JsonNode biometrics = result.path("biometrics");
-                List<JsonNode> biometricList = new ArrayList<>();
-                if (biometrics.isArray()) {
-                    biometrics.elements().forEachRemaining(biometricList::add);
+            // Streamed: the multi-MB data values go from the socket into the models without a String or JSON tree
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() == 200) {
+                    return BiometricModel.readCaptureResponse(body);
+                } else {
+                    throw new RuntimeException("HTTP error: " + response.statusCode());
                 }
-                return biometricList;
-            } else {
-                throw new RuntimeException("HTTP error: " + response.statusCode());
             }
         } catch (Exception e) {
             System.out.println("Capture error for device " + device.path("deviceId").asText() + ": " + e.getMessage());
@@ -132,46 +131,18 @@ public class BiometricAuth {
         }
     }
 
-    private List<BiometricModel> collectBiometrics() throws Exception {
+    private List<BiometricModel> collectBiometrics() {
         List<JsonNode> devices = discoverBiometricDevices();
-        List<Map<String, Object>> biometricsData = new ArrayList<>();
+        List<BiometricModel> models = new ArrayList<>();
 
         for (JsonNode device : devices) {
             if (!device.path("deviceId").asText().equals("3")) {
                 continue;
             }
 
-            List<JsonNode> data = captureBiometricData(device);
-
-            for (JsonNode bio : data) {
-                if (!bio.has("data") || !bio.get("data").isTextual()) {
-                    continue;
-                }
-
-                Map<String, Object> bioMap = new HashMap<>();
-                bioMap.put("specVersion", "0.9.5");
-                bioMap.put("data", bio.get("data").asText());
-                bioMap.put("hash", bio.get("hash").asText());
-                bioMap.put("sessionKey", bio.get("sessionKey").asText());
-                bioMap.put("thumbprint", bio.get("thumbprint").asText());
-
-                biometricsData.add(bioMap);
-            }
-        }
-
-        List<BiometricModel> models = new ArrayList<>();
-        for (Map<String, Object> bio : biometricsData) {
-            try {
-                BiometricModel model = new BiometricModel();
-                model.setSpecVersion((String) bio.get("specVersion"));
-                model.setData((String) bio.get("data"));
-                model.setHash((String) bio.get("hash"));
-                model.setSessionKey((String) bio.get("sessionKey"));
-                model.setThumbprint((String) bio.get("thumbprint"));
+            for (BiometricModel model : captureBiometricData(device)) {
+                model.setSpecVersion("0.9.5");
                 models.add(model);
-            } catch (Exception e) {
-                System.out.println("Validation failed for bio: " + bio);
-                throw e;
             }
         }
 
@@ -189,19 +160,12 @@ public class BiometricAuth {
                 System.exit(1);
             }
 
-            List<Map<String, Object>> biometricJsonData = new ArrayList<>();
             for (BiometricModel model : biometricModels) {
-                Map<String, Object> bioMap = new HashMap<>();
-                bioMap.put("specVersion", model.getSpecVersion());
-                bioMap.put("data", model.getData());
-                bioMap.put("hash", model.getHash());
-                bioMap.put("sessionKey", model.getSessionKey());
-                bioMap.put("thumbprint", model.getThumbprint());
-                biometricJsonData.add(bioMap);
+                System.out.println("Biometric data collected: " + model.getDataText().length() + " bytes, hash " + model.getHashText()
+                        + ", thumbprint " + model.getThumbprint());
             }
-            System.out.println("Biometric data collected: " + biometricJsonData);
 
-            Map<String, Object> response = authenticator.auth(
+            AuthResponse response = authenticator.auth(
                     individualId,
                     "UIN",
                     null, // demographics
@@ -211,7 +175,7 @@ public class BiometricAuth {
                     true // consentObtained
             );
 
-            JsonNode resBody = objectMapper.valueToTree(response);
+            JsonNode resBody = response.toJsonNode();
             System.out.println("Response: " + resBody.toString());
 
             if (resBody.has("errors")) {
@@ -1,13 +1,12 @@
 package examples;
 
+import auth.sdk.java.models.AuthResponse;
 import auth.sdk.java.models.DemographicsModel;
 import auth.sdk.java.models.IdentityInfo;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import auth.sdk.java.authenticator.Authenticator;
 import auth.sdk.java.utils.ConfigLoader;
 
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -50,7 +49,7 @@ public class DemoAuth {
 
             demographicsData.setPhoneNumber("5241388238"); // Set phone number
             // Perform authentication
-            Map<String, Object> response = authenticator.auth(
+            AuthResponse response = authenticator.auth(
                     "2139125329", // individualId
                     "UIN",             // individualIdType
                     demographicsData  , // demographicData
@@ -60,8 +59,7 @@ public class DemoAuth {
                     true                // consentObtained
             );
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode responseNode = mapper.convertValue(response, JsonNode.class);
+            JsonNode responseNode = response.toJsonNode();
 
             System.out.println("Response: " + responseNode.toPrettyString());
 
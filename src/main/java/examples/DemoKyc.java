@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import auth.sdk.java.authenticator.Authenticator;
 import auth.sdk.java.models.DemographicsModel;
 import auth.sdk.java.models.IdentityInfo;
+import auth.sdk.java.models.KycResponse;
 import auth.sdk.java.utils.ConfigLoader;
 
 import java.util.Collections;
@@ -42,7 +43,7 @@ public class DemoKyc {
 
             // Perform KYC authentication
             String txnId = "1234567890"; // Example transaction ID
-            Object kycResponse = authenticator.kyc(
+            KycResponse kycResponse = authenticator.kyc(
                     txnId,                              // txnId
                     "2139125329",                       // individual_id
                     "UIN",                              // individual_id_type
@@ -53,11 +54,11 @@ public class DemoKyc {
             );
 
             // Convert the response to JsonNode
-            JsonNode response = objectMapper.valueToTree(kycResponse);
+            JsonNode response = kycResponse.toJsonNode();
 
             System.out.println("Response status: 200");
             System.out.println("Response body: " + response.toPrettyString());
-            Map<String, Object> decryptedResponse = authenticator.decryptResponse(objectMapper.convertValue(response, Map.class));
+            Map<String, Object> decryptedResponse = authenticator.decryptResponse(kycResponse);
             System.out.println("Decrypted Response: " + objectMapper.writeValueAsString(decryptedResponse));
             // Check for errors in the response
             if (response != null && response.has("errors")) {
@@ -1,12 +1,11 @@
 package examples;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.models.OtpResponse;
 import auth.sdk.java.utils.ConfigLoader;
 
 import java.io.IOException;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,7 +26,7 @@ public class OtpGenerate {
             Authenticator authenticator = new Authenticator(configLoader.loadConfig(), null);
 
             // Perform OTP generation
-            Map<String, Object> response = authenticator.genOtp(
+            OtpResponse response = authenticator.genOtp(
                     "2139125329", // individual_id
                     "UIN",              // individual_id_type
                     String.valueOf(Optional.empty()),       // txnId
@@ -36,8 +35,7 @@ public class OtpGenerate {
             );
 
             // Convert response to JsonNode for easier processing
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode responseNode = mapper.convertValue(response, JsonNode.class);
+            JsonNode responseNode = response.toJsonNode();
 
             // Print response
             System.out.println("Response status: 200");
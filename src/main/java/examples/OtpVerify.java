@@ -3,6 +3,7 @@ package examples;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import auth.sdk.java.authenticator.Authenticator;
+import auth.sdk.java.models.AuthResponse;
 import auth.sdk.java.models.DemographicsModel;
 import auth.sdk.java.models.BiometricModel;
 import auth.sdk.java.utils.ConfigLoader;
@@ -29,7 +30,7 @@ public class OtpVerify {
             ConfigLoader configLoader = new ConfigLoader();
             Authenticator authenticator = new Authenticator(configLoader.loadConfig(), null);
 
-            Map<String, Object> response = authenticator.auth(
+            AuthResponse response = authenticator.auth(
                     "2139125329", // individualId
                     "UIN",             // individualIdType
                     null , // demographicData
@@ -40,7 +41,7 @@ public class OtpVerify {
             );
 
             ObjectMapper mapper = new ObjectMapper();
-            JsonNode responseNode = mapper.convertValue(response, JsonNode.class);
+            JsonNode responseNode = response.toJsonNode();
 
             System.out.println("Response status: 200");
             System.out.println("Response body: " + responseNode.toPrettyString());
@@ -56,7 +57,7 @@ public class OtpVerify {
             System.out.println("Response status: 200");
 
 
-            Map<String, Object> decryptedResponse = authenticator.decryptResponse(response);
+            Map<String, Object> decryptedResponse = authenticator.decryptResponse(response.asMap());
             System.out.println("Decrypted response: " + mapper.writeValueAsString(decryptedResponse));
 
         } catch (IOException e) {